@@ -0,0 +1,80 @@
+package com.ntn.auction.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.ntn.auction.engine.AuctionEngine;
+import com.ntn.auction.engine.AuctionEvent;
+import com.ntn.auction.engine.ReplayReport;
+import com.ntn.auction.service.BidIncrementService;
+
+/**
+ * CPU cost per bid event of the in-memory auction engine
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="AuctionEngineBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AuctionEngineBenchmark {
+
+    private static final int EVENTS = 1_000_000;
+
+    @Param({"100", "10000"})
+    int items;
+
+    @Param({"0.05"})
+    double proxyRatio;
+
+    List<AuctionEvent> trace;
+    BidIncrementService incrementService;
+
+    @Setup
+    public void generateTrace() {
+        incrementService = new BidIncrementService();
+        trace = syntheticTrace(items, proxyRatio, EVENTS, 42L);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public ReplayReport replay() {
+        return new AuctionEngine(incrementService::calculateMinIncrement).replay(trace);
+    }
+
+    /**
+     * Bidding war shaped trace: every event targets a random item slightly above its current minimum,
+     * a fraction of events are proxy bids with a higher ceiling
+     */
+    static List<AuctionEvent> syntheticTrace(int items, double proxyRatio, int events, long seed) {
+        Random random = new Random(seed);
+        BidIncrementService increments = new BidIncrementService();
+        BigDecimal[] prices = new BigDecimal[items];
+        List<AuctionEvent> trace = new ArrayList<>(events + items);
+
+        for (int i = 0; i < items; i++) {
+            prices[i] = BigDecimal.valueOf(10 + random.nextInt(500));
+            trace.add(new AuctionEvent.ItemOpened(i, 0L, prices[i], Long.MAX_VALUE));
+        }
+
+        for (int e = 0; e < events; e++) {
+            int item = random.nextInt(items);
+            String user = "user-" + random.nextInt(1_000);
+            BigDecimal minimum = prices[item].add(increments.calculateMinIncrement(prices[item]));
+            if (random.nextDouble() < proxyRatio) {
+                BigDecimal max = minimum.multiply(BigDecimal.valueOf(1 + random.nextInt(3)));
+                trace.add(new AuctionEvent.ProxyPlaced(item, e, user, max.add(BigDecimal.ONE)));
+            } else {
+                trace.add(new AuctionEvent.BidPlaced(item, e, user, minimum));
+                prices[item] = minimum;
+            }
+        }
+        return trace;
+    }
+}
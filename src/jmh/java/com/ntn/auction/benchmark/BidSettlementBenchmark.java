@@ -0,0 +1,131 @@
+package com.ntn.auction.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Bid settlement at auction end on an embedded H2 database
+ * Compares the former load-map-saveAll shape (one SELECT, one full-row UPDATE per bid, as Hibernate issues
+ * without JDBC batching) against the two set-based statements used by BidService.updateBidsStatus.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BidSettlementBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BidSettlementBenchmark {
+
+    private static final long ITEM_ID = 1L;
+
+    @Param({"10000", "50000"})
+    int bidsPerItem;
+
+    Connection connection;
+    long winningBidId;
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:settlement-" + bidsPerItem + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bid (id BIGINT PRIMARY KEY, item_id BIGINT NOT NULL, buyer_id VARCHAR(36) NOT NULL, " +
+                              "amount DECIMAL(19,4) NOT NULL, bid_time TIMESTAMP NOT NULL, status VARCHAR(20) NOT NULL, " +
+                              "is_highest_bid BOOLEAN NOT NULL, is_proxy_bid BOOLEAN NOT NULL)");
+            statement.execute("CREATE INDEX idx_bid_item_id ON bid (item_id)");
+        }
+
+        // A second item's bids share the table so the item filter is exercised
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bid VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, 'OUTBID', FALSE, FALSE)")) {
+            long id = 1;
+            for (long itemId = ITEM_ID; itemId <= 2; itemId++) {
+                for (int i = 0; i < bidsPerItem; i++, id++) {
+                    insert.setLong(1, id);
+                    insert.setLong(2, itemId);
+                    insert.setString(3, "user-" + (i % 500));
+                    insert.setBigDecimal(4, BigDecimal.valueOf(10 + i));
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        winningBidId = bidsPerItem;
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetStatuses() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE bid SET status = 'OUTBID', is_highest_bid = FALSE WHERE item_id = " + ITEM_ID);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int loadMapSaveAll() throws SQLException {
+        List<Object[]> rows = new ArrayList<>(bidsPerItem);
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, item_id, buyer_id, amount, bid_time, status, is_highest_bid, is_proxy_bid FROM bid WHERE item_id = ?")) {
+            select.setLong(1, ITEM_ID);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new Object[]{rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getBigDecimal(4),
+                            rs.getTimestamp(5), rs.getString(6), rs.getBoolean(7), rs.getBoolean(8)});
+                }
+            }
+        }
+
+        int updated = 0;
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE bid SET item_id = ?, buyer_id = ?, amount = ?, bid_time = ?, status = ?, is_highest_bid = ?, " +
+                "is_proxy_bid = ? WHERE id = ?")) {
+            for (Object[] row : rows) {
+                boolean winner = (long) row[0] == winningBidId;
+                update.setLong(1, (long) row[1]);
+                update.setString(2, (String) row[2]);
+                update.setBigDecimal(3, (BigDecimal) row[3]);
+                update.setTimestamp(4, (java.sql.Timestamp) row[4]);
+                update.setString(5, winner ? "WON" : "LOST");
+                update.setBoolean(6, winner);
+                update.setBoolean(7, (boolean) row[7]);
+                update.setLong(8, (long) row[0]);
+                updated += update.executeUpdate();
+            }
+        }
+        connection.commit();
+        return updated;
+    }
+
+    @Benchmark
+    public int setBased() throws SQLException {
+        int updated;
+        try (PreparedStatement losers = connection.prepareStatement(
+                "UPDATE bid SET status = 'LOST', is_highest_bid = FALSE WHERE item_id = ? AND id <> ?");
+             PreparedStatement winner = connection.prepareStatement(
+                     "UPDATE bid SET status = 'WON', is_highest_bid = TRUE WHERE id = ?")) {
+            losers.setLong(1, ITEM_ID);
+            losers.setLong(2, winningBidId);
+            updated = losers.executeUpdate();
+            winner.setLong(1, winningBidId);
+            updated += winner.executeUpdate();
+        }
+        connection.commit();
+        return updated;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ntn.auction.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ntn.auction.cluster.LoopbackClusterTransport;
+import com.ntn.auction.dto.event.AuctionEndEvent;
+import com.ntn.auction.service.ClusterBroadcastRelay;
+import com.ntn.auction.service.InterestIndex;
+import com.ntn.auction.service.ItemEventStream;
+import com.ntn.auction.service.ShardOwnershipService;
+import com.ntn.auction.service.StompBroadcastService;
+
+/**
+ * CPU per broadcast of one auction end event to four topics on the simple broker
+ * Subscribers are spread evenly over the topics; the outbound channel only counts frames.
+ * The serialize-once path also pays for queueing the cluster envelope (loopback transport).
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="StompBroadcastBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StompBroadcastBenchmark {
+
+    private static final String[] DESTINATIONS = {
+            "/topic/item/1/end", "/topic/auctions/ended", "/topic/item/1/status", "/topic/category/3/status"
+    };
+
+    @Param({"0", "10000"})
+    int subscribers;
+
+    SimpleBrokerMessageHandler broker;
+    SimpMessagingTemplate template;
+    ClusterBroadcastRelay relay;
+    StompBroadcastService broadcastService;
+    AtomicLong delivered = new AtomicLong();
+    AuctionEndEvent event;
+
+    @Setup
+    public void setUp() {
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(message -> delivered.incrementAndGet());
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+
+        for (int i = 0; i < subscribers; i++) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId("session-" + i);
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(DESTINATIONS[i % DESTINATIONS.length]);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+
+        template = new SimpMessagingTemplate(brokerChannel);
+        template.setMessageConverter(converter);
+        // Loopback transport: the relay publishes to itself and skips its own envelopes, as a single node would
+        ShardOwnershipService singleNode = new ShardOwnershipService(null, null, null) {
+            @Override
+            public String getNodeId() {
+                return "benchmark";
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        relay = new ClusterBroadcastRelay(template, new LoopbackClusterTransport(), singleNode, new InterestIndex(200),
+                new ItemEventStream(objectMapper, meterRegistry, 1_800_000, 15_000, 64), meterRegistry, 10_000, 10_000);
+        relay.start();
+        broadcastService = new StompBroadcastService(template, relay);
+
+        event = AuctionEndEvent.builder()
+                .itemId(1L)
+                .itemName("Vintage camera with original lens and leather case")
+                .finalPrice(new BigDecimal("1249.50"))
+                .winnerName("Jane Doe")
+                .winnerId("9f1c2d7e-5a3b-4c1d-8e2f-0a1b2c3d4e5f")
+                .endTime(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .totalBids(87L)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        relay.stop();
+        broker.stop();
+    }
+
+    @Benchmark
+    public long convertPerDestination() {
+        for (String destination : DESTINATIONS) {
+            template.convertAndSend(destination, event);
+        }
+        return delivered.get();
+    }
+
+    @Benchmark
+    public long serializeOnce() {
+        broadcastService.broadcast(event, DESTINATIONS);
+        return delivered.get();
+    }
+}
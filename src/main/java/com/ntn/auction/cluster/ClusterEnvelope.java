@@ -0,0 +1,23 @@
+package com.ntn.auction.cluster;
+
+import java.util.List;
+
+/**
+ * One encoded STOMP payload relayed between nodes
+ *
+ * @param originNodeId node that published it, skipped by that node on receipt
+ * @param messageId    unique per origin, used for dedupe
+ * @param itemId       item the message belongs to (channel sharding), null for global messages
+ * @param destinations local broker destinations to deliver to on every node
+ * @param contentType  MIME type of the body
+ * @param body         payload encoded once by the publishing node
+ * @param sequence     per-item feed sequence of an item event, null otherwise
+ */
+public record ClusterEnvelope(String originNodeId,
+                              String messageId,
+                              Long itemId,
+                              List<String> destinations,
+                              String contentType,
+                              byte[] body,
+                              Long sequence) {
+}
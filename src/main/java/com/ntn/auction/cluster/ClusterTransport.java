@@ -0,0 +1,14 @@
+package com.ntn.auction.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries broadcast envelopes to every API node
+ * Implementations deliver at most once and may deliver a node's own envelopes back to it.
+ */
+public interface ClusterTransport {
+
+    void publish(ClusterEnvelope envelope);
+
+    void subscribe(Consumer<ClusterEnvelope> handler);
+}
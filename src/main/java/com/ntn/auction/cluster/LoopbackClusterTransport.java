@@ -0,0 +1,30 @@
+package com.ntn.auction.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for tests and single-node runs ({@code auction.cluster.transport=loopback})
+ * Envelopes are handed synchronously to every subscriber, so several relays sharing one instance behave like
+ * nodes on the same Redis.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.cluster.transport", havingValue = "loopback")
+public class LoopbackClusterTransport implements ClusterTransport {
+
+    private final List<Consumer<ClusterEnvelope>> handlers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ClusterEnvelope envelope) {
+        handlers.forEach(handler -> handler.accept(envelope));
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEnvelope> handler) {
+        handlers.add(handler);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ntn.auction.cluster;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub transport, one channel per shard of items ({@code auction:fanout:N})
+ * Envelopes of one item always use the same channel, so they arrive on other nodes in publish order.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.cluster.transport", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisClusterTransport implements ClusterTransport {
+
+    private static final String CHANNEL_PREFIX = "auction:fanout:";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisMessageListenerContainer listenerContainer;
+    // Lenient so nodes running an older envelope version keep relaying during a rolling deploy
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final int channelCount;
+
+    public RedisClusterTransport(RedisConnectionFactory connectionFactory,
+                                 @Value("${auction.cluster.fanout.channels:16}") int channelCount) {
+        this.connectionFactory = connectionFactory;
+        this.channelCount = channelCount;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public void publish(ClusterEnvelope envelope) {
+        try (var connection = connectionFactory.getConnection()) {
+            connection.publish(channelOf(envelope).getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(envelope));
+        } catch (Exception e) {
+            log.error("Failed to publish envelope {} to the cluster: {}", envelope.messageId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEnvelope> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                handler.accept(objectMapper.readValue(message.getBody(), ClusterEnvelope.class));
+            } catch (Exception e) {
+                log.error("Dropping unreadable cluster envelope: {}", e.getMessage());
+            }
+        }, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    private String channelOf(ClusterEnvelope envelope) {
+        long key = envelope.itemId() != null ? envelope.itemId() : envelope.destinations().get(0).hashCode();
+        return CHANNEL_PREFIX + Math.floorMod(key, channelCount);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ntn.auction.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -46,4 +47,52 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Dedicated thread pool for timed auction transitions (start/close) fired by the timing wheel
+     * Caller-runs keeps a transition from ever being dropped when a burst of auctions ends together
+     */
+    @Bean("auctionTransitionExecutor")
+    public Executor auctionTransitionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("AuctionTransition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool for the partitioned auction closing pipeline
+     * One thread per partition, so at most {@code auction.closing.partitions} items close concurrently
+     */
+    @Bean("auctionCloseExecutor")
+    public Executor auctionCloseExecutor(@Value("${auction.closing.partitions:8}") int partitions) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitions);
+        executor.setMaxPoolSize(partitions);
+        executor.setQueueCapacity(partitions);
+        executor.setThreadNamePrefix("AuctionClose-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Warm-ups of items turning hot, kept off the scheduler threads
+     * A warm-up is only an optimization, so one that does not fit the queue is skipped
+     */
+    @Bean("auctionWarmupExecutor")
+    public Executor auctionWarmupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("AuctionWarmup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
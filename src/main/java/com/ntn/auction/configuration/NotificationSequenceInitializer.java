@@ -0,0 +1,50 @@
+package com.ntn.auction.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.ntn.auction.entity.Notification;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves the notification id sequence past the ids already in the table
+ * <p>
+ * On MySQL the pooled {@code notification_seq} is a single-row table that {@code ddl-auto} creates starting at 1,
+ * while existing rows hold IDENTITY ids. This runs once the schema is updated and before the scheduled jobs and
+ * web traffic start, and only ever raises {@code next_val}, so it is safe on every startup of every node.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(
+        prefix = "spring",
+        value = "datasource.driverClassName",
+        havingValue = "com.mysql.cj.jdbc.Driver")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSequenceInitializer {
+
+    // Hibernate hands out the block below the value it reads, so next_val must clear the highest id by a full block
+    static String SEED_SQL = "UPDATE notification_seq SET next_val = GREATEST(next_val, "
+                             + "(SELECT COALESCE(MAX(id), 0) FROM notification) + ?)";
+
+    JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        int updated = jdbcTemplate.update(SEED_SQL, Notification.ID_ALLOCATION_SIZE);
+        if (updated == 0) {
+            log.warn("notification_seq has no row, notification ids cannot be seeded");
+            return;
+        }
+        log.info("Notification id sequence seeded, next value {}",
+                jdbcTemplate.queryForObject("SELECT next_val FROM notification_seq", Long.class));
+    }
+}
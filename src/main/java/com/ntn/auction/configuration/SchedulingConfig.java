@@ -1,24 +1,53 @@
 package com.ntn.auction.configuration;
 
+import com.ntn.auction.scheduling.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
 
+    /**
+     * Shared by the @Scheduled jobs; sized so a slow sweep does not hold back the short conflation and batch ticks
+     */
     @Bean
-    public TaskScheduler taskScheduler() {
+    @Primary
+    public TaskScheduler taskScheduler(@Value("${auction.scheduling.pool-size:4}") int poolSize) {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(2);
+        scheduler.setPoolSize(poolSize);
         scheduler.setThreadNamePrefix("auction-scheduler-");
         scheduler.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * Own thread for the shard lease heartbeat, so renewals are never delayed past the lease TTL by other jobs
+     */
+    @Bean
+    public TaskScheduler clusterHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("cluster-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HashedTimingWheel auctionTimingWheel(@Qualifier("auctionTransitionExecutor") Executor transitionExecutor,
+                                                @Value("${auction.lifecycle.tick-millis:100}") long tickMillis,
+                                                @Value("${auction.lifecycle.wheel-size:512}") int wheelSize) {
+        return new HashedTimingWheel("auction-timing-wheel", Duration.ofMillis(tickMillis), wheelSize, transitionExecutor);
+    }
 }
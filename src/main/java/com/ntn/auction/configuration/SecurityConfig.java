@@ -35,6 +35,8 @@ public class SecurityConfig {
             "/items/**",
             "/categories/**",
             "/images/items/**",
+            // STOMP sessions authenticate with the bearer token of their CONNECT frame
+            "/ws/**",
     };
 
     // Custom JWT decoder bean
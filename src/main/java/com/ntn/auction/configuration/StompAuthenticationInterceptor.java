@@ -0,0 +1,143 @@
+package com.ntn.auction.configuration;
+
+import com.ntn.auction.entity.User;
+import com.ntn.auction.exception.AppException;
+import com.ntn.auction.exception.ErrorCode;
+import com.ntn.auction.repository.UserRepository;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Authenticates a STOMP session once instead of every message
+ * <p>
+ * The handshake records the client address. On CONNECT, a bearer token in the frame's {@code Authorization} header
+ * goes through {@link CustomJwtDecoder} (signature, expiry and logout check) and the user becomes the session's
+ * principal, named by user id so {@code /user/...} pushes addressed by {@code User.id} reach it; the buyer id and
+ * token expiry are kept in the session attributes for STOMP commands such as {@code /app/bid/place}. Connections
+ * without a token stay anonymous and can only subscribe.
+ * <p>
+ * {@code X-Forwarded-For} is only honoured when the connection comes from one of
+ * {@code auction.websocket.trusted-proxies}; the client address is then the last hop not itself a trusted proxy.
+ */
+@Component
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class StompAuthenticationInterceptor implements ChannelInterceptor, HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "auction.userId";
+    public static final String CLIENT_IP_ATTRIBUTE = "auction.clientIp";
+    private static final String TOKEN_EXPIRES_AT_ATTRIBUTE = "auction.tokenExpiresAt";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    CustomJwtDecoder customJwtDecoder;
+    JwtAuthenticationConverter jwtAuthenticationConverter;
+    UserRepository userRepository;
+    Set<String> trustedProxies;
+
+    public StompAuthenticationInterceptor(CustomJwtDecoder customJwtDecoder,
+                                          JwtAuthenticationConverter jwtAuthenticationConverter,
+                                          UserRepository userRepository,
+                                          @Value("${auction.websocket.trusted-proxies:}") List<String> trustedProxies) {
+        this.customJwtDecoder = customJwtDecoder;
+        this.jwtAuthenticationConverter = jwtAuthenticationConverter;
+        this.userRepository = userRepository;
+        this.trustedProxies = Set.copyOf(trustedProxies);
+    }
+
+    /**
+     * Buyer id of the session, or null if it is anonymous or its token has expired since CONNECT
+     */
+    public static String authenticatedUserId(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null
+            || !(sessionAttributes.get(TOKEN_EXPIRES_AT_ATTRIBUTE) instanceof Instant expiresAt)
+            || !expiresAt.isAfter(Instant.now())) {
+            return null;
+        }
+        return (String) sessionAttributes.get(USER_ID_ATTRIBUTE);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+        String authorization = accessor.getFirstNativeHeader("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return message;
+        }
+
+        Jwt jwt;
+        try {
+            jwt = customJwtDecoder.decode(authorization.substring(BEARER_PREFIX.length()));
+        } catch (JwtException e) {
+            log.debug("Rejected STOMP CONNECT of session {}: {}", accessor.getSessionId(), e.getMessage());
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+        User user = userRepository.findByUsername(jwt.getSubject())
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHENTICATED));
+
+        // User destinations are addressed by user id, while the token subject is the username
+        accessor.setUser(new JwtAuthenticationToken(jwt, jwtAuthenticationConverter.convert(jwt).getAuthorities(), user.getId()));
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            sessionAttributes.put(USER_ID_ATTRIBUTE, user.getId());
+            sessionAttributes.put(TOKEN_EXPIRES_AT_ATTRIBUTE, jwt.getExpiresAt() != null ? jwt.getExpiresAt() : Instant.MAX);
+        }
+        return message;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String clientIp = remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : null;
+        String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+        if (clientIp != null && trustedProxies.contains(clientIp) && forwardedFor != null) {
+            // Walk back from the nearest hop; entries left of the first untrusted one are client-controlled
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (hop.isEmpty()) {
+                    break;
+                }
+                clientIp = hop;
+                if (!trustedProxies.contains(hop)) {
+                    break;
+                }
+            }
+        }
+        if (clientIp != null) {
+            attributes.put(CLIENT_IP_ATTRIBUTE, clientIp);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.ntn.auction.configuration;
+
+import com.ntn.auction.service.SlowConsumerMonitor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP broker infrastructure, replacing {@code @EnableWebSocketMessageBroker}
+ * Broker, endpoints and transport limits are still configured in {@link WebSocketConfig}; this class only swaps in
+ * a session handler that registers each session's send buffer with the {@link SlowConsumerMonitor}.
+ */
+@Configuration
+public class StompBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final SlowConsumerMonitor slowConsumerMonitor;
+
+    public StompBrokerConfiguration(SlowConsumerMonitor slowConsumerMonitor) {
+        this.slowConsumerMonitor = slowConsumerMonitor;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                       AbstractSubscribableChannel clientOutboundChannel) {
+        return new MonitoredSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel, slowConsumerMonitor);
+    }
+
+    private static class MonitoredSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+        private final SlowConsumerMonitor slowConsumerMonitor;
+
+        MonitoredSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                             SubscribableChannel clientOutboundChannel,
+                                             SlowConsumerMonitor slowConsumerMonitor) {
+            super(clientInboundChannel, clientOutboundChannel);
+            this.slowConsumerMonitor = slowConsumerMonitor;
+        }
+
+        @Override
+        protected WebSocketSession decorateSession(WebSocketSession session) {
+            ConcurrentWebSocketSessionDecorator decorated =
+                    new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit());
+            slowConsumerMonitor.register(decorated);
+            return decorated;
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            try {
+                super.afterConnectionClosed(session, closeStatus);
+            } finally {
+                slowConsumerMonitor.unregister(session.getId(), closeStatus);
+            }
+        }
+    }
+}
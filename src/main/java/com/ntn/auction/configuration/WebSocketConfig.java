@@ -1,15 +1,39 @@
 package com.ntn.auction.configuration;
 
+import com.ntn.auction.service.SlowConsumerMonitor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// The broker itself is enabled by StompBrokerConfiguration
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final SlowConsumerMonitor slowConsumerMonitor;
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Value("${auction.websocket.outbound.send-time-limit-ms:5000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${auction.websocket.outbound.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${auction.websocket.outbound.pool-size:16}")
+    private int outboundPoolSize;
+
+    @Value("${auction.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    public WebSocketConfig(SlowConsumerMonitor slowConsumerMonitor,
+                           StompAuthenticationInterceptor stompAuthenticationInterceptor) {
+        this.slowConsumerMonitor = slowConsumerMonitor;
+        this.stompAuthenticationInterceptor = stompAuthenticationInterceptor;
+    }
+
     // WebSocketMessageBrokerConfigurer interface provides methods to configure the message broker and endpoints
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -27,6 +51,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(stompAuthenticationInterceptor)
                 .withSockJS();
     }
+
+    // The session is authenticated once from the CONNECT frame, not per message
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
+
+    // A session that stays blocked on a write or buffers past the limit is closed instead of holding memory
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
+    // Bounded pool: a stalled client pins at most one thread, and price ticks to lagging sessions are dropped
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(slowConsumerMonitor);
+    }
 }
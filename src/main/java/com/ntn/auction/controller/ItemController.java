@@ -3,10 +3,15 @@ package com.ntn.auction.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ntn.auction.dto.request.ItemCatalogQuery;
 import com.ntn.auction.dto.request.ItemCreateRequest;
 import com.ntn.auction.dto.response.ApiResponse;
+import com.ntn.auction.dto.response.CursorPage;
 import com.ntn.auction.dto.response.ItemResponse;
+import com.ntn.auction.dto.response.ItemSummaryResponse;
 import com.ntn.auction.service.ImagesStorageService;
+import com.ntn.auction.service.ItemEventFeed;
+import com.ntn.auction.service.ItemEventStream;
 import com.ntn.auction.service.ItemService;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -20,6 +25,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Set;
@@ -33,6 +39,8 @@ public class ItemController {
 
     ItemService itemService;
     ImagesStorageService imagesStorageService;
+    ItemEventFeed itemEventFeed;
+    ItemEventStream itemEventStream;
     Validator validator;
 
     /**
@@ -118,84 +126,88 @@ public class ItemController {
     }
 
     /**
-     * Get all items
+     * Browse the catalog
      *
-     * @return ApiResponse containing list of ItemResponse
+     * @param query filters (status, category, seller, price range, end date range), sort, cursor and page size
+     * @return ApiResponse containing one page of ItemSummaryResponse
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ItemResponse>>> getAllItems() {
-        List<ItemResponse> items = itemService.getAll();
-
-        return ResponseEntity.ok(ApiResponse.<List<ItemResponse>>builder()
-                .code(200)
-                .message("Items retrieved successfully")
-                .result(items)
-                .build());
+    public ResponseEntity<ApiResponse<CursorPage<ItemSummaryResponse>>> getCatalog(@ModelAttribute ItemCatalogQuery query) {
+        return page(itemService.getCatalog(query), "Items retrieved successfully");
     }
 
     /**
-     * Get items by seller
+     * Get items by seller, newest first
      *
      * @param sellerId Seller ID
-     * @return ApiResponse containing list of ItemResponse
+     * @return ApiResponse containing one page of ItemSummaryResponse
      */
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<ApiResponse<List<ItemResponse>>> getItemsBySeller(@PathVariable String sellerId) {
-        List<ItemResponse> items = itemService.getItemsBySeller(sellerId);
-
-        return ResponseEntity.ok(ApiResponse.<List<ItemResponse>>builder()
-                .code(200)
-                .message("Items retrieved successfully")
-                .result(items)
-                .build());
+    public ResponseEntity<ApiResponse<CursorPage<ItemSummaryResponse>>> getItemsBySeller(
+            @PathVariable String sellerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return page(itemService.getItemsBySeller(sellerId, cursor, limit), "Items retrieved successfully");
     }
 
     /**
-     * Get items by category
+     * Get active items of a category, ending soonest first
      *
      * @param categoryId Category ID
-     * @return ApiResponse containing list of ItemResponse
+     * @return ApiResponse containing one page of ItemSummaryResponse
      */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<ApiResponse<List<ItemResponse>>> getItemsByCategory(@PathVariable Long categoryId) {
-        List<ItemResponse> items = itemService.getItemsByCategory(categoryId);
-
-        return ResponseEntity.ok(ApiResponse.<List<ItemResponse>>builder()
-                .code(200)
-                .message("Items retrieved successfully")
-                .result(items)
-                .build());
+    public ResponseEntity<ApiResponse<CursorPage<ItemSummaryResponse>>> getItemsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return page(itemService.getItemsByCategory(categoryId, cursor, limit), "Items retrieved successfully");
     }
 
     /**
-     * Get active auctions
+     * Get active auctions, ending soonest first
      *
-     * @return ApiResponse containing list of ItemResponse
+     * @return ApiResponse containing one page of ItemSummaryResponse
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<ItemResponse>>> getActiveAuctions() {
-        List<ItemResponse> items = itemService.getActiveAuctions();
-
-        return ResponseEntity.ok(ApiResponse.<List<ItemResponse>>builder()
-                .code(200)
-                .message("Active auctions retrieved successfully")
-                .result(items)
-                .build());
+    public ResponseEntity<ApiResponse<CursorPage<ItemSummaryResponse>>> getActiveAuctions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return page(itemService.getActiveAuctions(cursor, limit), "Active auctions retrieved successfully");
     }
 
     /**
-     * Get auctions ending soon
+     * Get auctions ending within 24 hours
      *
-     * @return ApiResponse containing list of ItemResponse
+     * @return ApiResponse containing one page of ItemSummaryResponse
      */
     @GetMapping("/ending-soon")
-    public ResponseEntity<ApiResponse<List<ItemResponse>>> getEndingSoonAuctions() {
-        List<ItemResponse> items = itemService.getEndingSoonAuctions();
+    public ResponseEntity<ApiResponse<CursorPage<ItemSummaryResponse>>> getEndingSoonAuctions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return page(itemService.getEndingSoonAuctions(cursor, limit), "Ending soon auctions retrieved successfully");
+    }
+
+    /**
+     * Read-only event stream of an item (bids, status, end) for viewers that never send messages
+     * Browsers reconnect with the last event id they received and only get the events they missed
+     *
+     * @param id          Item ID
+     * @param lastEventId Sequence of the last event received, sent by EventSource on reconnect
+     * @return server-sent event stream
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamItemEvents(@PathVariable Long id,
+                                       @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return itemEventStream.subscribe(id, lastEventId, afterSequence -> itemEventFeed.replay(id, afterSequence));
+    }
 
-        return ResponseEntity.ok(ApiResponse.<List<ItemResponse>>builder()
+    private static ResponseEntity<ApiResponse<CursorPage<ItemSummaryResponse>>> page(CursorPage<ItemSummaryResponse> page,
+                                                                                  String message) {
+        return ResponseEntity.ok(ApiResponse.<CursorPage<ItemSummaryResponse>>builder()
                 .code(200)
-                .message("Ending soon auctions retrieved successfully")
-                .result(items)
+                .message(message)
+                .result(page)
                 .build());
     }
 }
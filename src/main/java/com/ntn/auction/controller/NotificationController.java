@@ -1,16 +1,17 @@
 package com.ntn.auction.controller;
 
+import com.ntn.auction.dto.request.NotificationReadRequest;
 import com.ntn.auction.dto.response.ApiResponse;
-import com.ntn.auction.dto.response.NotificationResponse;
+import com.ntn.auction.dto.response.CursorPage;
+import com.ntn.auction.dto.response.NotificationSummaryResponse;
 import com.ntn.auction.service.NotificationService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/notifications")
 @RequiredArgsConstructor
@@ -21,17 +22,43 @@ public class NotificationController {
     NotificationService notificationService;
 
     @GetMapping("/{userId}")
-    ApiResponse<List<NotificationResponse>> getUserNotifications(@PathVariable("userId") String userId) {
-        return ApiResponse.<List<NotificationResponse>>builder().result(notificationService.getUserNotifications(userId)).build();
+    ApiResponse<CursorPage<NotificationSummaryResponse>> getUserNotifications(
+            @PathVariable("userId") String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ApiResponse.<CursorPage<NotificationSummaryResponse>>builder()
+                .result(notificationService.getUserNotifications(userId, cursor, limit)).build();
     }
 
     @GetMapping("/{userId}/unread")
-    ApiResponse<List<NotificationResponse>> getUnreadNotifications(@PathVariable("userId") String userId) {
-        return ApiResponse.<List<NotificationResponse>>builder().result(notificationService.getUnreadNotifications(userId)).build();
+    ApiResponse<CursorPage<NotificationSummaryResponse>> getUnreadNotifications(
+            @PathVariable("userId") String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ApiResponse.<CursorPage<NotificationSummaryResponse>>builder()
+                .result(notificationService.getUnreadNotifications(userId, cursor, limit)).build();
     }
 
     @GetMapping("/{userId}/unread/count")
     ApiResponse<Integer> getUnreadCount(@PathVariable("userId") String userId) {
         return ApiResponse.<Integer>builder().result(notificationService.getUnreadCount(userId)).build();
     }
+
+    @PatchMapping("/{notificationId}/read")
+    ApiResponse<Void> markAsRead(@PathVariable("notificationId") Long notificationId) {
+        notificationService.markAsRead(notificationId);
+        return ApiResponse.<Void>builder().message("Notification marked as read").build();
+    }
+
+    @PatchMapping("/{userId}/read-batch")
+    ApiResponse<Void> markAsRead(@PathVariable("userId") String userId, @RequestBody @Valid NotificationReadRequest request) {
+        notificationService.markAsRead(userId, request.getIds());
+        return ApiResponse.<Void>builder().message("Notifications marked as read").build();
+    }
+
+    @PatchMapping("/{userId}/read-all")
+    ApiResponse<Void> markAllAsRead(@PathVariable("userId") String userId) {
+        notificationService.markAllAsRead(userId);
+        return ApiResponse.<Void>builder().message("Notifications marked as read").build();
+    }
 }
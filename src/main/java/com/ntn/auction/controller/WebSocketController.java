@@ -1,16 +1,116 @@
 package com.ntn.auction.controller;
 
+import com.ntn.auction.configuration.StompAuthenticationInterceptor;
+import com.ntn.auction.dto.request.BidCreateRequest;
+import com.ntn.auction.dto.request.BidPlaceRequest;
+import com.ntn.auction.dto.request.ItemFeedResumeRequest;
+import com.ntn.auction.dto.request.ItemWatchRequest;
+import com.ntn.auction.dto.response.BidPlaceResponse;
+import com.ntn.auction.dto.response.BidResponse;
+import com.ntn.auction.dto.response.ItemFeedReplayResponse;
+import com.ntn.auction.dto.response.ItemWatchResponse;
+import com.ntn.auction.exception.AppException;
+import com.ntn.auction.exception.BidException;
+import com.ntn.auction.service.BidOptimizedService;
+import com.ntn.auction.service.InterestIndex;
+import com.ntn.auction.service.ItemEventFeed;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
+
 @Controller
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class WebSocketController {
 
+    ItemEventFeed itemEventFeed;
+    InterestIndex interestIndex;
+    BidOptimizedService bidOptimizedService;
+
+    // Same bid engine as POST /bids over the open session; the buyer was authenticated at CONNECT
+    @MessageMapping("/bid/place")
+    @SendToUser(destinations = "/queue/bid/confirmation", broadcast = false)
+    public BidPlaceResponse placeBid(@Payload BidPlaceRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        String buyerId = StompAuthenticationInterceptor.authenticatedUserId(headerAccessor.getSessionAttributes());
+        if (buyerId == null) {
+            return rejected(request, "Unauthenticated");
+        }
+        if (request.getItemId() == null || request.getAmount() == null) {
+            return rejected(request, "Item and amount are required");
+        }
+
+        BidCreateRequest bidCreateRequest = BidCreateRequest.builder()
+                .itemId(request.getItemId())
+                .buyerId(buyerId)
+                .amount(request.getAmount())
+                .build();
+        Object clientIp = headerAccessor.getSessionAttributes().get(StompAuthenticationInterceptor.CLIENT_IP_ATTRIBUTE);
+        try {
+            BidResponse bid = bidOptimizedService.placeBidOptimized(bidCreateRequest, clientIp != null ? clientIp.toString() : null);
+            return BidPlaceResponse.builder()
+                    .correlationId(request.getCorrelationId())
+                    .accepted(true)
+                    .bid(bid)
+                    .build();
+        } catch (AppException | BidException e) {
+            return rejected(request, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("STOMP bid {} on item {} failed: {}", request.getCorrelationId(), request.getItemId(), e.getMessage(), e);
+            return rejected(request, "Bid could not be processed");
+        }
+    }
+
     @MessageMapping("/bid/subscribe/{itemId}")
     @SendToUser("/queue/bid/confirmation")
     public String subscribeToBids(@DestinationVariable Long itemId) {
         return "Subscribed to bids for item " + itemId;
     }
+
+    // Reconnecting clients send the last sequence they saw and get only the missed item events
+    @MessageMapping("/item/{itemId}/resume")
+    @SendToUser(destinations = "/queue/item/replay", broadcast = false)
+    public ItemFeedReplayResponse resumeItemFeed(@DestinationVariable Long itemId,
+                                                 @Payload ItemFeedResumeRequest request) {
+        long lastSequence = request.getLastSequence() != null ? request.getLastSequence() : 0L;
+        return itemEventFeed.replay(itemId, lastSequence);
+    }
+
+    // Watched items' events arrive on /user/queue/watch/{bids,status,end,...} for this session only
+    @MessageMapping("/watch")
+    @SendToUser(destinations = "/queue/watch/ack", broadcast = false)
+    public ItemWatchResponse watchItems(@Payload ItemWatchRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        return ItemWatchResponse.builder()
+                .itemIds(interestIndex.watch(headerAccessor.getSessionId(), itemIdsOf(request)))
+                .build();
+    }
+
+    @MessageMapping("/unwatch")
+    @SendToUser(destinations = "/queue/watch/ack", broadcast = false)
+    public ItemWatchResponse unwatchItems(@Payload ItemWatchRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        return ItemWatchResponse.builder()
+                .itemIds(interestIndex.unwatch(headerAccessor.getSessionId(), itemIdsOf(request)))
+                .build();
+    }
+
+    private static BidPlaceResponse rejected(BidPlaceRequest request, String error) {
+        return BidPlaceResponse.builder()
+                .correlationId(request.getCorrelationId())
+                .accepted(false)
+                .error(error)
+                .build();
+    }
+
+    private static List<Long> itemIdsOf(ItemWatchRequest request) {
+        return request.getItemIds() != null ? request.getItemIds() : List.of();
+    }
 }
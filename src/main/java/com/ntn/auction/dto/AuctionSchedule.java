@@ -0,0 +1,26 @@
+package com.ntn.auction.dto;
+
+import com.ntn.auction.entity.Item;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Start/end instants of an item, loaded by the timer refill scans and published when they change
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AuctionSchedule {
+    Long itemId;
+    Item.ItemStatus status;
+    LocalDateTime auctionStartDate;
+    LocalDateTime auctionEndDate;
+
+    public static AuctionSchedule of(Item item) {
+        return new AuctionSchedule(item.getId(), item.getStatus(), item.getAuctionStartDate(), item.getAuctionEndDate());
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 public class BidNotificationPayload {
     Long bidId;
     Long itemId;
+    Long categoryId;
     String buyerId;
     BigDecimal amount;
     LocalDateTime timestamp;
@@ -0,0 +1,49 @@
+package com.ntn.auction.dto;
+
+import com.ntn.auction.dto.request.ItemCatalogQuery.SortOrder;
+import com.ntn.auction.exception.AppException;
+import com.ntn.auction.exception.ErrorCode;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a catalog page: the sort attribute's value and the item id
+ * The sort order is part of the cursor, so a cursor cannot be replayed against another order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemCatalogCursor {
+    SortOrder sort;
+    // LocalDateTime or BigDecimal as text, depending on the sort attribute
+    String key;
+    Long id;
+
+    public String encode() {
+        String raw = sort + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return null for a missing cursor (first page)
+     */
+    public static ItemCatalogCursor decode(String cursor, SortOrder expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+            SortOrder sort = SortOrder.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new AppException(ErrorCode.INVALID_ARGUMENT);
+            }
+            return new ItemCatalogCursor(sort, parts[1], Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new AppException(ErrorCode.INVALID_ARGUMENT);
+        }
+    }
+}
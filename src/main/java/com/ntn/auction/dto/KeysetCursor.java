@@ -0,0 +1,47 @@
+package com.ntn.auction.dto;
+
+import com.ntn.auction.exception.AppException;
+import com.ntn.auction.exception.ErrorCode;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page ordered by (timestamp DESC, id DESC), passed to clients as an opaque string
+ * The first page starts from {@link #START}, so the same keyset query serves every page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    LocalDateTime timestamp;
+    Long id;
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return {@link #START} for a missing cursor
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new AppException(ErrorCode.INVALID_ARGUMENT);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ntn.auction.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+/**
+ * Outbid events of one user on one item, collapsed over a coalescing window or digest interval
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OutbidSummary {
+    String userId;
+    Long itemId;
+    String itemName;
+    BigDecimal currentPrice;
+    int outbidCount;
+}
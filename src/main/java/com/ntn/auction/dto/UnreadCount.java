@@ -0,0 +1,17 @@
+package com.ntn.auction.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Unread notification count of a user, loaded by counter reconciliation and pushed on {@code /user/queue/notifications/unread}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class UnreadCount {
+    String userId;
+    Long count;
+}
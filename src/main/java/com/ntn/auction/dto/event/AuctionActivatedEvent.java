@@ -0,0 +1,18 @@
+package com.ntn.auction.dto.event;
+
+import com.ntn.auction.entity.Item;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Published inside the transaction that activates an auction, cached and announced after commit
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionActivatedEvent {
+    // Copy of the item in its ACTIVE state
+    Item item;
+}
@@ -19,4 +19,6 @@ public class AuctionEndEvent {
     String winnerId;
     LocalDateTime endTime;
     Long totalBids;
+    // Per-item feed sequence, see ItemEventFeed
+    Long sequence;
 }
@@ -0,0 +1,22 @@
+package com.ntn.auction.dto.event;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionEndingSoonEvent {
+    Long itemId;
+    String itemName;
+    BigDecimal currentBidPrice;
+    LocalDateTime endTime;
+    Long secondsRemaining;
+    // Per-item feed sequence, see ItemEventFeed
+    Long sequence;
+}
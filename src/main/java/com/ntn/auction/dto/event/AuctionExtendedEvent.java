@@ -0,0 +1,19 @@
+package com.ntn.auction.dto.event;
+
+import com.ntn.auction.entity.Item;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Published inside the transaction that extends an auction, cached and pushed to clients after commit
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionExtendedEvent {
+    // Copy of the item with its new end date and extension count
+    Item item;
+    int maxExtensions;
+}
@@ -17,4 +17,6 @@ public class AuctionStartEvent {
     BigDecimal startingPrice;
     LocalDateTime startTime;
     LocalDateTime endTime;
+    // Per-item feed sequence, see ItemEventFeed
+    Long sequence;
 }
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class BidUpdateEvent {
     Long itemId;
+    Long categoryId;
     Long bidId;
     BigDecimal amount;
     LocalDateTime bidTime;
@@ -21,4 +22,8 @@ public class BidUpdateEvent {
     String buyerId;
     Bid.BidStatus status;
     Long totalBids;
+    // Estimated cluster-wide watchers of the item, see WatcherTracker
+    Long watchers;
+    // Per-item feed sequence, see ItemEventFeed
+    Long sequence;
 }
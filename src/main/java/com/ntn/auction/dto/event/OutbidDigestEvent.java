@@ -0,0 +1,21 @@
+package com.ntn.auction.dto.event;
+
+import com.ntn.auction.dto.OutbidSummary;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodic outbid digest of a user, pushed on {@code /user/queue/notifications/digest}
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutbidDigestEvent {
+    List<OutbidSummary> items;
+    LocalDateTime timestamp;
+}
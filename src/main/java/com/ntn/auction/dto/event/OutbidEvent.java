@@ -0,0 +1,22 @@
+package com.ntn.auction.dto.event;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+/**
+ * Published inside the transaction that beats a user's bid, handed to the outbid coalescer after commit
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutbidEvent {
+    String userId;
+    Long itemId;
+    String itemName;
+    // Price of the bid that beat it
+    BigDecimal currentPrice;
+}
@@ -0,0 +1,22 @@
+package com.ntn.auction.dto.event;
+
+import com.ntn.auction.dto.request.NotificationCreateRequest;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Notifications owed by a settlement's NOTIFY step, handed to the {@code NotificationWriter} after the step commits
+ * The settlement stays on NOTIFY until the writer has inserted them, so a lost handoff is redone by the resumer.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingNotificationsEvent {
+    Long settlementId;
+    Long itemId;
+    List<NotificationCreateRequest> notifications;
+}
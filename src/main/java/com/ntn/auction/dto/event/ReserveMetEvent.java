@@ -0,0 +1,18 @@
+package com.ntn.auction.dto.event;
+
+import com.ntn.auction.entity.Item;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Published inside the transaction that flips the reserve flag, cached and pushed to clients after commit
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReserveMetEvent {
+    // Copy of the item with the reserve flag set
+    Item item;
+}
@@ -0,0 +1,17 @@
+package com.ntn.auction.dto.event;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Set;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardOwnershipChangedEvent {
+    String nodeId;
+    Set<Integer> ownedShards;
+    boolean coordinated; // false when Redis is unreachable and the node falls back to owning every shard
+}
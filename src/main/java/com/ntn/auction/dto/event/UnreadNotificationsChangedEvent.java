@@ -0,0 +1,17 @@
+package com.ntn.auction.dto.event;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Published inside the transaction that creates or reads notifications, applied to the cached counter after commit
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadNotificationsChangedEvent {
+    String userId;
+    long delta;
+}
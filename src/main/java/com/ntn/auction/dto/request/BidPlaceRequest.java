@@ -0,0 +1,18 @@
+package com.ntn.auction.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BidPlaceRequest {
+    // Chosen by the client and echoed in the confirmation, to match replies to pipelined bids
+    String correlationId;
+    Long itemId;
+    BigDecimal amount;
+}
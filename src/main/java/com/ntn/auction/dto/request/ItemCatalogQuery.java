@@ -0,0 +1,54 @@
+package com.ntn.auction.dto.request;
+
+import com.ntn.auction.entity.Item;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Filters, sort and page position of a catalog request, bound from the query string of {@code GET /items}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemCatalogQuery {
+    Item.ItemStatus status;
+    Long categoryId;
+    String sellerId;
+    BigDecimal minPrice;
+    BigDecimal maxPrice;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime endingAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime endingBefore;
+
+    @Builder.Default
+    SortOrder sort = SortOrder.ENDING_SOON;
+
+    String cursor;
+
+    @Builder.Default
+    Integer limit = 20;
+
+    /**
+     * Each order is keyset-paginated on (attribute, id) in the same direction
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum SortOrder {
+        ENDING_SOON("auctionEndDate", true),
+        NEWEST("auctionStartDate", false),
+        PRICE_ASC("currentBidPrice", true),
+        PRICE_DESC("currentBidPrice", false);
+
+        private final String attribute;
+        private final boolean ascending;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ntn.auction.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemFeedResumeRequest {
+    // Sequence of the last item event the client received, 0 if none
+    Long lastSequence;
+}
@@ -0,0 +1,15 @@
+package com.ntn.auction.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemWatchRequest {
+    List<Long> itemIds;
+}
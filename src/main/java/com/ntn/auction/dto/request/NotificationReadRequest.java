@@ -0,0 +1,19 @@
+package com.ntn.auction.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NotificationReadRequest {
+    @NotEmpty(message = "Notification ids are required")
+    @Size(max = 500, message = "At most 500 notifications can be marked at once")
+    List<Long> ids;
+}
@@ -0,0 +1,18 @@
+package com.ntn.auction.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BidPlaceResponse {
+    String correlationId;
+    boolean accepted;
+    // Set when accepted
+    BidResponse bid;
+    // Set when rejected
+    String error;
+}
@@ -0,0 +1,35 @@
+package com.ntn.auction.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing
+ * {@code nextCursor} is null on the last page; otherwise it is passed back as {@code cursor} to fetch the next one
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+    List<T> items;
+    String nextCursor;
+    boolean hasMore;
+
+    /**
+     * Build a page from rows fetched with {@code limit + 1}, the extra row only signalling that more follow
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        return CursorPage.<T>builder()
+                .items(items)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? cursorOf.apply(items.get(items.size() - 1)) : null)
+                .build();
+    }
+}
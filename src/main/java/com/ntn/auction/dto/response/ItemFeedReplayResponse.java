@@ -0,0 +1,21 @@
+package com.ntn.auction.dto.response;
+
+import com.ntn.auction.feed.FeedEntry;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemFeedReplayResponse {
+    Long itemId;
+    Long afterSequence;
+    Long lastSequence;
+    // false when part of the gap is no longer buffered - reload the item and its bids over REST
+    boolean complete;
+    List<FeedEntry> events;
+}
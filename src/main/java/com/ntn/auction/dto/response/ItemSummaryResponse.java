@@ -0,0 +1,29 @@
+package com.ntn.auction.dto.response;
+
+import com.ntn.auction.entity.Item;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Catalog row loaded by a constructor projection - seller, images and description stay in the database
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemSummaryResponse {
+    Long id;
+    String name;
+    String imageUrl;
+    BigDecimal startingPrice;
+    BigDecimal currentBidPrice;
+    Item.ItemStatus status;
+    Long categoryId;
+    String categoryName;
+    LocalDateTime auctionStartDate;
+    LocalDateTime auctionEndDate;
+}
@@ -0,0 +1,16 @@
+package com.ntn.auction.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemWatchResponse {
+    // Items the session watches after the change, bounded by auction.websocket.watch.max-items-per-session
+    Set<Long> itemIds;
+}
@@ -0,0 +1,23 @@
+package com.ntn.auction.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox row loaded by a JPQL constructor expression - no user or item entities are materialized
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NotificationSummaryResponse {
+    Long id;
+    String message;
+    Boolean read;
+    Long itemId;
+    String itemName;
+    LocalDateTime notificationDate;
+}
@@ -0,0 +1,21 @@
+package com.ntn.auction.engine;
+
+/**
+ * Anti-sniping rule shared by the live bid path and the replay engine
+ * A bid landing within {@code thresholdMillis} of the end pushes the end back by {@code extensionMillis},
+ * at most {@code maxExtensions} times per auction. Times are epoch milliseconds.
+ */
+public record AntiSnipePolicy(long thresholdMillis, long extensionMillis, int maxExtensions) {
+
+    public static final AntiSnipePolicy DISABLED = new AntiSnipePolicy(0, 0, 0);
+
+    public boolean shouldExtend(long bidTime, long endTime, int extensionsSoFar) {
+        return extensionsSoFar < maxExtensions
+               && bidTime <= endTime
+               && endTime - bidTime <= thresholdMillis;
+    }
+
+    public long extendedEnd(long endTime) {
+        return endTime + extensionMillis;
+    }
+}
@@ -0,0 +1,192 @@
+package com.ntn.auction.engine;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Deterministic, in-memory auction engine
+ * Applies an ordered stream of {@link AuctionEvent}s with the same bid and proxy rules as the live services,
+ * without repositories, Redis or WebSocket calls. Used to replay recorded traces and to benchmark rule changes.
+ * Not thread-safe - one engine per replay thread.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionEngine {
+
+    UnaryOperator<BigDecimal> incrementRule;
+    AntiSnipePolicy antiSnipePolicy;
+    Map<Long, AuctionState> states = new HashMap<>();
+
+    /**
+     * @param incrementRule minimum increment for a given current price, e.g. BidIncrementService::calculateMinIncrement
+     */
+    public AuctionEngine(UnaryOperator<BigDecimal> incrementRule) {
+        this(incrementRule, AntiSnipePolicy.DISABLED);
+    }
+
+    public AuctionEngine(UnaryOperator<BigDecimal> incrementRule, AntiSnipePolicy antiSnipePolicy) {
+        this.incrementRule = incrementRule;
+        this.antiSnipePolicy = antiSnipePolicy;
+    }
+
+    public AuctionState open(long itemId, BigDecimal startingPrice, long endTime) {
+        AuctionState state = new AuctionState(itemId, startingPrice, endTime);
+        states.put(itemId, state);
+        return state;
+    }
+
+    public AuctionState state(long itemId) {
+        return states.get(itemId);
+    }
+
+    public Collection<AuctionState> states() {
+        return Collections.unmodifiableCollection(states.values());
+    }
+
+    public BidOutcome apply(AuctionEvent event) {
+        return switch (event) {
+            case AuctionEvent.ItemOpened opened -> {
+                open(opened.itemId(), opened.startingPrice(), opened.endTime());
+                yield BidOutcome.OPENED;
+            }
+            case AuctionEvent.BidPlaced bid -> placeBid(stateFor(bid.itemId()), bid.timestamp(), bid.userId(), bid.amount());
+            case AuctionEvent.ProxyPlaced proxy -> placeProxy(stateFor(proxy.itemId()), proxy.timestamp(), proxy.userId(), proxy.maxAmount());
+        };
+    }
+
+    public ReplayReport replay(Iterable<? extends AuctionEvent> events) {
+        long count = 0;
+        long accepted = 0;
+        long rejected = 0;
+        long proxiesAccepted = 0;
+        long proxiesRejected = 0;
+        long proxyExecutionsBefore = totalProxyExecutions();
+
+        long start = System.nanoTime();
+        for (AuctionEvent event : events) {
+            switch (apply(event)) {
+                case ACCEPTED -> accepted++;
+                case REJECTED_BELOW_MINIMUM, REJECTED_CLOSED -> rejected++;
+                case PROXY_ACCEPTED -> proxiesAccepted++;
+                case PROXY_REJECTED -> proxiesRejected++;
+                case OPENED -> {
+                }
+            }
+            count++;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new ReplayReport(count, accepted, rejected, proxiesAccepted, proxiesRejected,
+                totalProxyExecutions() - proxyExecutionsBefore, elapsed);
+    }
+
+    public BigDecimal minimumBid(AuctionState state) {
+        return state.getCurrentPrice().add(incrementRule.apply(state.getCurrentPrice()));
+    }
+
+    private AuctionState stateFor(long itemId) {
+        AuctionState state = states.get(itemId);
+        if (state == null) {
+            // Traces without an ItemOpened row start from zero and never close
+            state = open(itemId, BigDecimal.ZERO, Long.MAX_VALUE);
+        }
+        return state;
+    }
+
+    private BidOutcome placeBid(AuctionState state, long timestamp, String userId, BigDecimal amount) {
+        if (timestamp > state.getEndTime()) {
+            return BidOutcome.REJECTED_CLOSED;
+        }
+        if (amount.compareTo(minimumBid(state)) < 0) {
+            return BidOutcome.REJECTED_BELOW_MINIMUM;
+        }
+
+        state.lead(userId, amount, false);
+        if (antiSnipePolicy.shouldExtend(timestamp, state.getEndTime(), state.getExtensions())) {
+            state.extend(antiSnipePolicy.extendedEnd(state.getEndTime()));
+        }
+        resolveProxies(state);
+        return BidOutcome.ACCEPTED;
+    }
+
+    private BidOutcome placeProxy(AuctionState state, long timestamp, String userId, BigDecimal maxAmount) {
+        if (timestamp > state.getEndTime()) {
+            return BidOutcome.REJECTED_CLOSED;
+        }
+        // Same rule as ProxyBidService: max amount must be strictly greater than current price + increment
+        if (maxAmount.compareTo(minimumBid(state)) <= 0) {
+            return BidOutcome.PROXY_REJECTED;
+        }
+
+        state.putProxy(userId, maxAmount);
+        resolveProxies(state);
+        return BidOutcome.PROXY_ACCEPTED;
+    }
+
+    /**
+     * Resolve proxy competition after the standing bid changed
+     * The strongest proxy (highest max, earliest on ties) leads at one increment above the runner-up,
+     * capped at its own max. Every other proxy is outbid or exhausted afterwards.
+     */
+    private void resolveProxies(AuctionState state) {
+        var proxies = state.proxies();
+        if (proxies.isEmpty()) {
+            return;
+        }
+
+        AuctionState.ProxyEntry top = null;
+        BigDecimal runnerUp = null;
+        for (AuctionState.ProxyEntry proxy : proxies) {
+            if (top == null || proxy.outranks(top)) {
+                if (top != null) {
+                    runnerUp = max(runnerUp, top.maxAmount);
+                }
+                top = proxy;
+            } else {
+                runnerUp = max(runnerUp, proxy.maxAmount);
+            }
+        }
+
+        BigDecimal price = state.getCurrentPrice();
+        BigDecimal required = price.add(incrementRule.apply(price));
+
+        if (!top.userId.equals(state.getLeaderId())) {
+            if (top.maxAmount.compareTo(required) < 0) {
+                // Even the strongest proxy cannot beat the standing bid
+                proxies.clear();
+                return;
+            }
+            BigDecimal competing = max(runnerUp, price);
+            BigDecimal target = competing.add(incrementRule.apply(competing)).min(top.maxAmount);
+            state.lead(top.userId, target, true);
+        } else if (runnerUp != null && runnerUp.compareTo(required) >= 0) {
+            // The leader's own proxy defends against a challenger
+            BigDecimal target = runnerUp.add(incrementRule.apply(runnerUp)).min(top.maxAmount);
+            state.lead(top.userId, target, true);
+        }
+
+        AuctionState.ProxyEntry winner = top;
+        proxies.removeIf(proxy -> proxy != winner);
+    }
+
+    private long totalProxyExecutions() {
+        long total = 0;
+        for (AuctionState state : states.values()) {
+            total += state.getProxyExecutions();
+        }
+        return total;
+    }
+
+    private static BigDecimal max(BigDecimal a, BigDecimal b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.compareTo(b) >= 0 ? a : b;
+    }
+}
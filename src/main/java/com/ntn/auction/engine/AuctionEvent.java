@@ -0,0 +1,32 @@
+package com.ntn.auction.engine;
+
+import java.math.BigDecimal;
+
+/**
+ * Input events for the in-memory {@link AuctionEngine}
+ * Timestamps are epoch milliseconds and only used for ordering and closing checks
+ */
+public sealed interface AuctionEvent permits AuctionEvent.ItemOpened, AuctionEvent.BidPlaced, AuctionEvent.ProxyPlaced {
+
+    long itemId();
+
+    long timestamp();
+
+    /**
+     * Opens an auction with its starting price and end time (Long.MAX_VALUE for open-ended replays)
+     */
+    record ItemOpened(long itemId, long timestamp, BigDecimal startingPrice, long endTime) implements AuctionEvent {
+    }
+
+    /**
+     * A manual bid placed by a user
+     */
+    record BidPlaced(long itemId, long timestamp, String userId, BigDecimal amount) implements AuctionEvent {
+    }
+
+    /**
+     * A proxy bid created or updated by a user with its maximum amount
+     */
+    record ProxyPlaced(long itemId, long timestamp, String userId, BigDecimal maxAmount) implements AuctionEvent {
+    }
+}
@@ -0,0 +1,56 @@
+package com.ntn.auction.engine;
+
+import com.ntn.auction.service.BidIncrementService;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Command line replay of a bid_audit_log trace (see {@link AuctionTraceReader} for the format)
+ * <p>
+ * Usage from the packaged jar:
+ * java -cp online-auction-web-api.jar -Dloader.main=com.ntn.auction.engine.AuctionReplayCli
+ * org.springframework.boot.loader.launch.PropertiesLauncher trace.csv [repeat]
+ * <p>
+ * The first pass prints the resulting state of every item, the remaining passes are timed only
+ * and give the CPU cost per event.
+ */
+public final class AuctionReplayCli {
+
+    private AuctionReplayCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: AuctionReplayCli <trace.csv> [repeat]");
+            System.exit(1);
+        }
+
+        List<AuctionEvent> events = AuctionTraceReader.read(Path.of(args[0]));
+        int repeat = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        BidIncrementService incrementService = new BidIncrementService();
+
+        AuctionEngine engine = new AuctionEngine(incrementService::calculateMinIncrement);
+        ReplayReport report = engine.replay(events);
+        print("replay", report);
+
+        engine.states().stream()
+                .sorted(Comparator.comparingLong(AuctionState::getItemId))
+                .forEach(state -> System.out.printf("item=%d price=%s leader=%s bids=%d proxyExecutions=%d activeProxies=%d%n",
+                        state.getItemId(), state.getCurrentPrice(), state.getLeaderId(),
+                        state.getBidCount(), state.getProxyExecutions(), state.activeProxyCount()));
+
+        for (int i = 1; i < repeat; i++) {
+            print("pass " + (i + 1), new AuctionEngine(incrementService::calculateMinIncrement).replay(events));
+        }
+    }
+
+    private static void print(String label, ReplayReport report) {
+        System.out.printf("%s: events=%d accepted=%d rejected=%d proxies=%d/%d proxyExecutions=%d elapsed=%.2fms (%.0f events/s, %.1f ns/event)%n",
+                label, report.events(), report.accepted(), report.rejected(),
+                report.proxiesAccepted(), report.proxiesAccepted() + report.proxiesRejected(),
+                report.proxyExecutions(), report.elapsedNanos() / 1_000_000d,
+                report.eventsPerSecond(), report.nanosPerEvent());
+    }
+}
@@ -0,0 +1,109 @@
+package com.ntn.auction.engine;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mutable per-item state owned by a single {@link AuctionEngine}
+ * Not thread-safe - the engine applies events sequentially
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AuctionState {
+
+    final long itemId;
+    final BigDecimal startingPrice;
+    long endTime;
+
+    BigDecimal currentPrice;
+    String leaderId;
+    long bidCount;
+    long proxyExecutions;
+    int extensions;
+
+    @Getter(AccessLevel.NONE)
+    final List<ProxyEntry> proxies = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    long proxySequence;
+
+    AuctionState(long itemId, BigDecimal startingPrice, long endTime) {
+        this.itemId = itemId;
+        this.startingPrice = startingPrice;
+        this.endTime = endTime;
+        this.currentPrice = startingPrice;
+    }
+
+    public boolean hasBids() {
+        return leaderId != null;
+    }
+
+    public int activeProxyCount() {
+        return proxies.size();
+    }
+
+    void setEndTime(long endTime) {
+        this.endTime = endTime;
+    }
+
+    void extend(long newEndTime) {
+        this.endTime = newEndTime;
+        this.extensions++;
+    }
+
+    void lead(String userId, BigDecimal price, boolean proxy) {
+        this.leaderId = userId;
+        this.currentPrice = price;
+        this.bidCount++;
+        if (proxy) {
+            this.proxyExecutions++;
+        }
+    }
+
+    List<ProxyEntry> proxies() {
+        return proxies;
+    }
+
+    ProxyEntry proxyOf(String userId) {
+        for (ProxyEntry proxy : proxies) {
+            if (proxy.userId.equals(userId)) {
+                return proxy;
+            }
+        }
+        return null;
+    }
+
+    ProxyEntry putProxy(String userId, BigDecimal maxAmount) {
+        ProxyEntry existing = proxyOf(userId);
+        if (existing != null) {
+            // Updating keeps the original registration order, like ProxyBidService does
+            existing.maxAmount = maxAmount;
+            return existing;
+        }
+        ProxyEntry entry = new ProxyEntry(userId, maxAmount, proxySequence++);
+        proxies.add(entry);
+        return entry;
+    }
+
+    static final class ProxyEntry {
+        final String userId;
+        final long sequence;
+        BigDecimal maxAmount;
+
+        ProxyEntry(String userId, BigDecimal maxAmount, long sequence) {
+            this.userId = userId;
+            this.maxAmount = maxAmount;
+            this.sequence = sequence;
+        }
+
+        boolean outranks(ProxyEntry other) {
+            int cmp = maxAmount.compareTo(other.maxAmount);
+            return cmp > 0 || (cmp == 0 && sequence < other.sequence);
+        }
+    }
+}
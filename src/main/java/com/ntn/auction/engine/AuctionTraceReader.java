@@ -0,0 +1,113 @@
+package com.ntn.auction.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a CSV export of bid_audit_log into {@link AuctionEvent}s
+ * <p>
+ * Expected header (column order is free): item_id,user_id,bid_amount,timestamp,action_type
+ * Export example: SELECT item_id, user_id, bid_amount, timestamp, action_type FROM bid_audit_log ORDER BY timestamp, id
+ * <p>
+ * Besides the BidAuditLog action types, two synthetic types can be added with a UNION:
+ * - ITEM_OPENED: bid_amount is the starting price
+ * - PROXY_PLACED: bid_amount is the proxy max amount (e.g. from proxy_bids.created_date / max_amount)
+ * When a trace contains PROXY_PLACED rows, PROXY_BID_EXECUTED rows are skipped because the engine re-derives them.
+ */
+public final class AuctionTraceReader {
+
+    private AuctionTraceReader() {
+    }
+
+    public static List<AuctionEvent> read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return List.of();
+            }
+            Map<String, Integer> columns = indexColumns(header);
+            int itemCol = require(columns, "item_id");
+            int userCol = require(columns, "user_id");
+            int amountCol = require(columns, "bid_amount");
+            int timeCol = require(columns, "timestamp");
+            int typeCol = require(columns, "action_type");
+
+            List<String[]> rows = new ArrayList<>();
+            boolean hasProxyRows = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] row = line.split(",", -1);
+                hasProxyRows |= "PROXY_PLACED".equals(unquote(row[typeCol]));
+                rows.add(row);
+            }
+
+            List<AuctionEvent> events = new ArrayList<>(rows.size());
+            for (String[] row : rows) {
+                long itemId = Long.parseLong(unquote(row[itemCol]));
+                String userId = unquote(row[userCol]);
+                BigDecimal amount = new BigDecimal(unquote(row[amountCol]));
+                long timestamp = parseTimestamp(unquote(row[timeCol]));
+
+                switch (unquote(row[typeCol])) {
+                    case "ITEM_OPENED" -> events.add(new AuctionEvent.ItemOpened(itemId, timestamp, amount, Long.MAX_VALUE));
+                    case "PROXY_PLACED" -> events.add(new AuctionEvent.ProxyPlaced(itemId, timestamp, userId, amount));
+                    case "BID_PLACED" -> events.add(new AuctionEvent.BidPlaced(itemId, timestamp, userId, amount));
+                    case "PROXY_BID_EXECUTED" -> {
+                        if (!hasProxyRows) {
+                            events.add(new AuctionEvent.BidPlaced(itemId, timestamp, userId, amount));
+                        }
+                    }
+                    default -> {
+                        // BID_OUTBID, BID_WON, BID_CANCELLED do not change the auction state
+                    }
+                }
+            }
+            return events;
+        }
+    }
+
+    static long parseTimestamp(String value) {
+        if (value.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(value);
+        }
+        return LocalDateTime.parse(value.replace(' ', 'T')).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static Map<String, Integer> indexColumns(String header) {
+        Map<String, Integer> columns = new HashMap<>();
+        String[] names = header.split(",");
+        for (int i = 0; i < names.length; i++) {
+            columns.put(unquote(names[i]).toLowerCase(), i);
+        }
+        return columns;
+    }
+
+    private static int require(Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Trace is missing column: " + name);
+        }
+        return index;
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+}
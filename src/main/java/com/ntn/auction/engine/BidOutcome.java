@@ -0,0 +1,10 @@
+package com.ntn.auction.engine;
+
+public enum BidOutcome {
+    ACCEPTED,               // Manual bid accepted
+    REJECTED_BELOW_MINIMUM, // Manual bid lower than current price + increment
+    REJECTED_CLOSED,        // Event arrived after the auction end time
+    PROXY_ACCEPTED,         // Proxy bid registered (and possibly executed)
+    PROXY_REJECTED,         // Proxy max amount not above current price + increment
+    OPENED                  // Item opened
+}
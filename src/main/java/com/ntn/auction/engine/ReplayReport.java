@@ -0,0 +1,16 @@
+package com.ntn.auction.engine;
+
+/**
+ * Summary of an {@link AuctionEngine#replay} run
+ */
+public record ReplayReport(long events, long accepted, long rejected, long proxiesAccepted, long proxiesRejected,
+                           long proxyExecutions, long elapsedNanos) {
+
+    public double eventsPerSecond() {
+        return elapsedNanos == 0 ? 0 : events * 1_000_000_000d / elapsedNanos;
+    }
+
+    public double nanosPerEvent() {
+        return events == 0 ? 0 : (double) elapsedNanos / events;
+    }
+}
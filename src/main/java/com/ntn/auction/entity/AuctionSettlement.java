@@ -0,0 +1,77 @@
+package com.ntn.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted progress of an auction settlement
+ * One row per closed item; {@code step} is the next step to run and only advances in the same transaction
+ * as that step's work, so a crash resumes from the last completed step.
+ */
+@Entity
+@Table(name = "auction_settlement", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_settlement_item_id", columnNames = "item_id")
+}, indexes = {
+        @Index(name = "idx_settlement_step_next_attempt", columnList = "step, next_attempt_at")
+})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@EqualsAndHashCode(callSuper = false)
+public class AuctionSettlement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = "item_id", nullable = false)
+    Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false, length = 20)
+    SettlementStep step;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "final_status", nullable = false, length = 20)
+    Item.ItemStatus finalStatus;
+
+    @Column(name = "winning_bid_id")
+    Long winningBidId;
+
+    // Notifications created by the NOTIFY step, delivered by PUBLISH
+    @Column(name = "notification_ids")
+    String notificationIds;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    Integer attempts = 0;
+
+    // When the resumer may pick the settlement up: backoff after a failure, stall timeout otherwise
+    @Column(name = "next_attempt_at", columnDefinition = "TIMESTAMP", nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    String lastError;
+
+    @Column(name = "closed_at", columnDefinition = "TIMESTAMP", nullable = false)
+    LocalDateTime closedAt;
+
+    @Column(name = "completed_at", columnDefinition = "TIMESTAMP")
+    LocalDateTime completedAt;
+
+    @Version
+    Long version;
+
+    public enum SettlementStep {
+        SETTLE_BIDS,    // Winner WON, every other bid LOST
+        SETTLE_PROXIES, // Proxy bids WON/OUTBID
+        NOTIFY,         // Persist seller/winner notifications (batched by NotificationWriter)
+        PUBLISH,        // WebSocket fan-out (at-least-once)
+        DONE
+    }
+}
@@ -3,6 +3,7 @@ package com.ntn.auction.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,9 +12,12 @@ import java.util.List;
 
 @Entity
 @Table(name = "item", indexes = {
-        @Index(name = "idx_item_category_id", columnList = "category_id"),
-        @Index(name = "idx_item_seller_id", columnList = "seller_id"),
-        @Index(name = "idx_item_status", columnList = "status"),
+        // Catalog keyset orders (attribute, id), led by the equality filters
+        @Index(name = "idx_item_status_end_date", columnList = "status, auction_end_date, id"),
+        @Index(name = "idx_item_status_start_date", columnList = "status, auction_start_date, id"),
+        @Index(name = "idx_item_status_price", columnList = "status, current_bid_price, id"),
+        @Index(name = "idx_item_category_status_end_date", columnList = "category_id, status, auction_end_date, id"),
+        @Index(name = "idx_item_seller_start_date", columnList = "seller_id, auction_start_date, id"),
         @Index(name = "idx_item_auction_start_date", columnList = "auction_start_date"),
         @Index(name = "idx_item_auction_end_date", columnList = "auction_end_date")
 })
@@ -21,8 +25,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
-@Builder
+@Builder(toBuilder = true)
 @EqualsAndHashCode(callSuper = false)
+@DynamicUpdate // Concurrent price updates must not write back a stale auction end date
 public class Item {
 
     @Id
@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "notification", indexes = {
-        @Index(name = "idx_notification_user_id", columnList = "user_id"),
+        // Inbox keyset pages: (notification_date, id) descending within a user, optionally unread only
+        @Index(name = "idx_notification_user_date", columnList = "user_id, notification_date, id"),
+        @Index(name = "idx_notification_user_unread_date", columnList = "user_id, is_read, notification_date, id"),
+        // Coalesced notifications: the unread row of a (user, item, type) is updated in place
+        @Index(name = "idx_notification_user_item_type", columnList = "user_id, item_id, type, is_read"),
         @Index(name = "idx_notification_item_id", columnList = "item_id"),
         @Index(name = "idx_notification_date", columnList = "notification_date"),
         @Index(name = "idx_notification_read", columnList = "is_read")
@@ -21,8 +25,13 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = false)
 public class Notification {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence (a table on MySQL) instead of IDENTITY, so Hibernate can batch the inserts.
+    // NotificationSequenceInitializer starts it above the ids of existing databases.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = ID_ALLOCATION_SIZE)
     Long id;
 
     @Column(name = "message", nullable = false, columnDefinition = "TEXT")
@@ -33,6 +42,12 @@ public class Notification {
     @Column(name = "is_read", nullable = false)
     Boolean read = false;
 
+    // Null on rows written before notification types existed
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 20)
+    NotificationType type = NotificationType.GENERAL;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_notification_user"))
     @ToString.Exclude
@@ -54,4 +69,9 @@ public class Notification {
             notificationDate = LocalDateTime.now();
         }
     }
+
+    public enum NotificationType {
+        GENERAL,    // One row per event (auction results)
+        OUTBID      // Coalesced per user and item, see OutbidNotificationCoalescer
+    }
 }
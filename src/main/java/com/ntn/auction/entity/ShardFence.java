@@ -0,0 +1,26 @@
+package com.ntn.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Highest lease fencing token issued for a shard, as seen by the database
+ * Closing updates are conditional on it, so a node holding an older token cannot close the shard's auctions
+ */
+@Entity
+@Table(name = "shard_fence")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ShardFence {
+
+    @Id
+    @Column(name = "shard")
+    Integer shard;
+
+    @Column(name = "token", nullable = false)
+    Long token;
+}
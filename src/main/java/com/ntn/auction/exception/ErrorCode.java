@@ -20,7 +20,8 @@ public enum ErrorCode {
     ITEM_NOT_FOUND(2002, "Item not found", HttpStatus.NOT_FOUND),
     USER_NOT_FOUND(2003, "User not found", HttpStatus.NOT_FOUND),
     INVALID_ARGUMENT(2004, "Invalid argument", HttpStatus.BAD_REQUEST),
-    INVALID_STATE(2005, "Invalid state", HttpStatus.BAD_REQUEST)
+    INVALID_STATE(2005, "Invalid state", HttpStatus.BAD_REQUEST),
+    NOTIFICATION_NOT_FOUND(2006, "Notification not found", HttpStatus.NOT_FOUND)
     ;
 
     ErrorCode(int code, String message, HttpStatusCode statusCode) {
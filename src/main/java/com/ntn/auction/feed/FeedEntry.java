@@ -0,0 +1,7 @@
+package com.ntn.auction.feed;
+
+/**
+ * A buffered item event as it was sent to its destination
+ */
+public record FeedEntry(long sequence, String destination, Object payload) {
+}
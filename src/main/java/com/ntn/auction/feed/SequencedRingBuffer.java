@@ -0,0 +1,85 @@
+package com.ntn.auction.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded buffer of the last N sequence-numbered entries of a feed
+ * <p>
+ * Sequences must increase but do not need to be contiguous (other nodes may take numbers from the same
+ * counter). A replay is complete when the buffer holds everything after the requested sequence, i.e. the
+ * request is not older than the first appended entry and nothing after it has been evicted yet; otherwise the
+ * caller has to fall back to a full reload.
+ */
+public final class SequencedRingBuffer<T> {
+
+    private final Object[] values;
+    private final long[] sequences;
+    private int next;
+    private int size;
+    private long lastSequence;
+    // Everything after this sequence is buffered; set on the first append, raised on eviction
+    private long bufferedAfter = -1;
+
+    public SequencedRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.values = new Object[capacity];
+        this.sequences = new long[capacity];
+    }
+
+    public synchronized void append(long sequence, T value) {
+        if (sequence <= lastSequence) {
+            throw new IllegalArgumentException("Sequence " + sequence + " is not after " + lastSequence);
+        }
+        if (bufferedAfter < 0) {
+            bufferedAfter = sequence - 1;
+        }
+        if (size == values.length) {
+            bufferedAfter = sequences[next];
+        } else {
+            size++;
+        }
+        values[next] = value;
+        sequences[next] = sequence;
+        next = (next + 1) % values.length;
+        lastSequence = sequence;
+    }
+
+    /**
+     * Record a sequence that could not be appended in order; replays from before it are incomplete
+     */
+    public synchronized void markMissing(long sequence) {
+        bufferedAfter = Math.max(bufferedAfter, sequence);
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Entries with a sequence greater than the given one, oldest first
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Replay<T> since(long afterSequence) {
+        List<T> entries = new ArrayList<>();
+        int oldest = (next - size + values.length) % values.length;
+        for (int i = 0; i < size; i++) {
+            int index = (oldest + i) % values.length;
+            if (sequences[index] > afterSequence) {
+                entries.add((T) values[index]);
+            }
+        }
+        // An empty buffer knows nothing, only a client that has seen nothing yet is up to date
+        boolean complete = bufferedAfter < 0 ? afterSequence == 0 : afterSequence >= bufferedAfter;
+        return new Replay<>(entries, complete, lastSequence);
+    }
+
+    /**
+     * @param complete     false if entries after the requested sequence were evicted or never buffered
+     * @param lastSequence newest sequence in the buffer, 0 if empty
+     */
+    public record Replay<T>(List<T> entries, boolean complete, long lastSequence) {
+    }
+}
@@ -26,6 +26,10 @@ public interface BidMapper {
     @Mapping(target = "amount", source = "bid.amount")
     @Mapping(target = "bidTime", source = "bid.bidTime")
     @Mapping(target = "totalBids", source = "totalBids")
+    @Mapping(target = "bidId", source = "bid.id")
+    @Mapping(target = "categoryId", ignore = true)
+    @Mapping(target = "watchers", ignore = true)
+    @Mapping(target = "sequence", ignore = true)
     BidUpdateEvent toBidUpdateEvent(Bid bid, Integer totalBids);
 
     List<BidResponse> toResponseList(List<Bid> bids);
@@ -9,16 +9,12 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
-import java.util.List;
-
 @Mapper(componentModel = "spring", uses = {CategoryMapper.class, UserMapper.class})
 public interface ItemMapper {
     @Mapping(target = "category", source = "category")
     @Mapping(target = "seller", source = "seller")
     ItemResponse mapToItemResponse(Item item);
 
-    List<ItemResponse> mapToItemResponseList(List<Item> items);
-
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "name", ignore = true)
     @Mapping(target = "description", ignore = true)
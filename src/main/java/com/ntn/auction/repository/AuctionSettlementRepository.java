@@ -0,0 +1,20 @@
+package com.ntn.auction.repository;
+
+import com.ntn.auction.entity.AuctionSettlement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AuctionSettlementRepository extends JpaRepository<AuctionSettlement, Long> {
+    Optional<AuctionSettlement> findByItemId(Long itemId);
+
+    @Query("SELECT s.itemId FROM AuctionSettlement s WHERE s.step <> 'DONE' AND s.nextAttemptAt <= :now ORDER BY s.nextAttemptAt")
+    List<Long> findDueItemIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
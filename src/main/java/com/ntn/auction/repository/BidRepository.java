@@ -29,4 +29,15 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     Optional<Bid> findTopByItemOrderByAmountDesc(Item item);
 
     List<Bid> findByItem(Item item);
+
+    // Settlement at auction end - set-based instead of hydrating every bid of the item
+    // A null winning bid (reserve not met) marks every bid as lost
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bid b SET b.status = 'LOST', b.highestBid = false WHERE b.item.id = :itemId " +
+           "AND (:winningBidId IS NULL OR b.id <> :winningBidId)")
+    int markLosingBids(@Param("itemId") Long itemId, @Param("winningBidId") Long winningBidId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bid b SET b.status = 'WON', b.highestBid = true WHERE b.id = :winningBidId")
+    int markWinningBid(@Param("winningBidId") Long winningBidId);
 }
@@ -0,0 +1,20 @@
+package com.ntn.auction.repository;
+
+import com.ntn.auction.dto.ItemCatalogCursor;
+import com.ntn.auction.dto.request.ItemCatalogQuery;
+import com.ntn.auction.dto.response.ItemSummaryResponse;
+
+import java.util.List;
+
+/**
+ * Catalog queries built from optional filters, so only the given predicates reach the database
+ */
+public interface ItemCatalogRepository {
+
+    /**
+     * Items matching the query strictly after the cursor, in the query's sort order
+     *
+     * @param after null for the first page
+     */
+    List<ItemSummaryResponse> findCatalogPage(ItemCatalogQuery query, ItemCatalogCursor after, int limit);
+}
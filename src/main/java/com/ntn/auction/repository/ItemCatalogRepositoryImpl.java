@@ -0,0 +1,99 @@
+package com.ntn.auction.repository;
+
+import com.ntn.auction.dto.ItemCatalogCursor;
+import com.ntn.auction.dto.request.ItemCatalogQuery;
+import com.ntn.auction.dto.response.ItemSummaryResponse;
+import com.ntn.auction.entity.Category;
+import com.ntn.auction.entity.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ItemCatalogRepositoryImpl implements ItemCatalogRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ItemSummaryResponse> findCatalogPage(ItemCatalogQuery query, ItemCatalogCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ItemSummaryResponse> cq = cb.createQuery(ItemSummaryResponse.class);
+        Root<Item> item = cq.from(Item.class);
+        Join<Item, Category> category = item.join("category");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getStatus() != null) {
+            predicates.add(cb.equal(item.get("status"), query.getStatus()));
+        }
+        if (query.getCategoryId() != null) {
+            predicates.add(cb.equal(category.get("id"), query.getCategoryId()));
+        }
+        if (query.getSellerId() != null) {
+            predicates.add(cb.equal(item.get("seller").get("id"), query.getSellerId()));
+        }
+        if (query.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(item.get("currentBidPrice"), query.getMinPrice()));
+        }
+        if (query.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(item.get("currentBidPrice"), query.getMaxPrice()));
+        }
+        if (query.getEndingAfter() != null) {
+            predicates.add(cb.greaterThan(item.get("auctionEndDate"), query.getEndingAfter()));
+        }
+        if (query.getEndingBefore() != null) {
+            predicates.add(cb.lessThanOrEqualTo(item.get("auctionEndDate"), query.getEndingBefore()));
+        }
+
+        ItemCatalogQuery.SortOrder sort = query.getSort();
+        Path<Long> id = item.get("id");
+        if (sort == ItemCatalogQuery.SortOrder.PRICE_ASC || sort == ItemCatalogQuery.SortOrder.PRICE_DESC) {
+            Path<BigDecimal> key = item.get(sort.getAttribute());
+            if (after != null) {
+                predicates.add(keyset(cb, key, new BigDecimal(after.getKey()), id, after.getId(), sort.isAscending()));
+            }
+        } else {
+            Path<LocalDateTime> key = item.get(sort.getAttribute());
+            if (after != null) {
+                predicates.add(keyset(cb, key, LocalDateTime.parse(after.getKey()), id, after.getId(), sort.isAscending()));
+            }
+        }
+
+        Path<?> key = item.get(sort.getAttribute());
+        cq.select(cb.construct(ItemSummaryResponse.class,
+                        item.get("id"),
+                        item.get("name"),
+                        item.get("imageUrl"),
+                        item.get("startingPrice"),
+                        item.get("currentBidPrice"),
+                        item.get("status"),
+                        category.get("id"),
+                        category.get("name"),
+                        item.get("auctionStartDate"),
+                        item.get("auctionEndDate")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(sort.isAscending()
+                        ? List.of(cb.asc(key), cb.asc(id))
+                        : List.of(cb.desc(key), cb.desc(id)));
+
+        return entityManager.createQuery(cq).setMaxResults(limit).getResultList();
+    }
+
+    // Rows after (value, lastId) in the sort direction, expanded so MySQL can range-scan the composite index
+    private static <Y extends Comparable<? super Y>> Predicate keyset(CriteriaBuilder cb, Expression<Y> key, Y value,
+                                                                     Path<Long> id, Long lastId, boolean ascending) {
+        return ascending
+                ? cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)))
+                : cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, lastId)));
+    }
+}
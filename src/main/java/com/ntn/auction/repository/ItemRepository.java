@@ -1,27 +1,86 @@
 package com.ntn.auction.repository;
 
+import com.ntn.auction.dto.AuctionSchedule;
 import com.ntn.auction.entity.Item;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemCatalogRepository {
     List<Item> findByStatusAndAuctionStartDateBefore(Item.ItemStatus status, LocalDateTime dateTime);
 
     List<Item> findByStatusAndAuctionEndDateBefore(Item.ItemStatus status, LocalDateTime dateTime);
 
-    List<Item> findBySellerIdOrderByAuctionStartDateDesc(String sellerId);
+    // Item detail in one statement; the seller's roles and their permissions follow as batch fetches
+    @EntityGraph(attributePaths = {"category", "seller", "images"})
+    Optional<Item> findWithDetailsById(Long id);
 
-    List<Item> findByCategoryIdAndStatusOrderByAuctionEndDateAsc(Long categoryId, Item.ItemStatus status);
+    // Timer refill scans - only the columns the timing wheel needs
+    @Query("SELECT new com.ntn.auction.dto.AuctionSchedule(i.id, i.status, i.auctionStartDate, i.auctionEndDate) " +
+           "FROM Item i WHERE i.status IN :statuses AND i.auctionStartDate <= :to")
+    List<AuctionSchedule> findStartSchedulesUntil(@Param("statuses") Collection<Item.ItemStatus> statuses,
+                                                  @Param("to") LocalDateTime to);
 
-    @Query("SELECT i FROM Item i WHERE i.status = 'ACTIVE' AND i.auctionStartDate <= :now AND i.auctionEndDate > :now")
-    List<Item> findActiveAuctions(@Param("now") LocalDateTime now);
+    @Query("SELECT new com.ntn.auction.dto.AuctionSchedule(i.id, i.status, i.auctionStartDate, i.auctionEndDate) " +
+           "FROM Item i WHERE i.status IN :statuses AND i.auctionStartDate > :from AND i.auctionStartDate <= :to")
+    List<AuctionSchedule> findStartSchedulesBetween(@Param("statuses") Collection<Item.ItemStatus> statuses,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
 
-    @Query("SELECT i FROM Item i WHERE i.status = 'ACTIVE' AND i.auctionEndDate BETWEEN :now AND :endTime")
-    List<Item> findEndingSoonAuctions(@Param("now") LocalDateTime now, @Param("endTime") LocalDateTime endTime);
+    @Query("SELECT new com.ntn.auction.dto.AuctionSchedule(i.id, i.status, i.auctionStartDate, i.auctionEndDate) " +
+           "FROM Item i WHERE i.status = 'ACTIVE' AND i.auctionEndDate <= :to")
+    List<AuctionSchedule> findEndSchedulesUntil(@Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.ntn.auction.dto.AuctionSchedule(i.id, i.status, i.auctionStartDate, i.auctionEndDate) " +
+           "FROM Item i WHERE i.status = 'ACTIVE' AND i.auctionEndDate > :from AND i.auctionEndDate <= :to")
+    List<AuctionSchedule> findEndSchedulesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.ntn.auction.dto.AuctionSchedule(i.id, i.status, i.auctionStartDate, i.auctionEndDate) " +
+           "FROM Item i WHERE i.id = :itemId")
+    Optional<AuctionSchedule> findScheduleById(@Param("itemId") Long itemId);
+
+    // Anti-snipe compare-and-set: only the bid that still sees the expected end date can extend it
+    // (rows created before the extension columns existed hold NULL there)
+    @Modifying
+    @Query("UPDATE Item i SET i.auctionEndDate = :newEndDate, i.currentExtensions = COALESCE(i.currentExtensions, 0) + 1 " +
+           "WHERE i.id = :itemId AND i.status = 'ACTIVE' AND i.auctionEndDate = :expectedEndDate " +
+           "AND COALESCE(i.currentExtensions, 0) < :maxExtensions")
+    int extendAuctionEnd(@Param("itemId") Long itemId,
+                         @Param("expectedEndDate") LocalDateTime expectedEndDate,
+                         @Param("newEndDate") LocalDateTime newEndDate,
+                         @Param("maxExtensions") int maxExtensions);
+
+    // Reserve compare-and-set: only the first bid reaching the reserve flips the flag
+    @Modifying
+    @Query("UPDATE Item i SET i.reserveMet = true WHERE i.id = :itemId AND (i.reserveMet = false OR i.reserveMet IS NULL)")
+    int markReserveMet(@Param("itemId") Long itemId);
+
+    @Query("SELECT i.id FROM Item i WHERE i.status = 'ACTIVE' AND i.auctionEndDate <= :now")
+    List<Long> findExpiredActiveItemIds(@Param("now") LocalDateTime now);
+
+    // Start marker: only the first activation (timer, fallback sweep, another node) flips a due item to ACTIVE
+    @Modifying
+    @Query("UPDATE Item i SET i.status = 'ACTIVE' " +
+           "WHERE i.id = :itemId AND i.status IN ('PENDING', 'UPCOMING') AND i.auctionStartDate <= :now")
+    int markActive(@Param("itemId") Long itemId, @Param("now") LocalDateTime now);
+
+    // Close marker: only the first closer flips ACTIVE to the final status (and the final price, when sold), and only
+    // while no newer lease of the item's shard has been fenced in
+    @Modifying
+    @Query("UPDATE Item i SET i.status = :status, i.currentBidPrice = COALESCE(:finalPrice, i.currentBidPrice) " +
+           "WHERE i.id = :itemId AND i.status = 'ACTIVE' AND i.auctionEndDate <= :now " +
+           "AND NOT EXISTS (SELECT f FROM ShardFence f WHERE f.shard = :shard AND f.token > :token)")
+    int markClosed(@Param("itemId") Long itemId, @Param("status") Item.ItemStatus status,
+                   @Param("finalPrice") BigDecimal finalPrice, @Param("now") LocalDateTime now,
+                   @Param("shard") Integer shard, @Param("token") Long token);
 }
@@ -1,16 +1,65 @@
 package com.ntn.auction.repository;
 
+import com.ntn.auction.dto.UnreadCount;
+import com.ntn.auction.dto.response.NotificationSummaryResponse;
 import com.ntn.auction.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserIdOrderByNotificationDateDesc(String userId);
+    long countByUserIdAndReadFalse(String userId);
 
-    List<Notification> findByUserIdAndReadFalseOrderByNotificationDateDesc(String userId);
+    Optional<Notification> findFirstByUserIdAndItemIdAndTypeAndReadFalseOrderByNotificationDateDesc(
+            String userId, Long itemId, Notification.NotificationType type);
 
-    Integer countUnreadByUserId(String userId);
+    // Inbox keyset pages - rows strictly after the cursor in (notification_date DESC, id DESC) order
+    @Query("SELECT new com.ntn.auction.dto.response.NotificationSummaryResponse(" +
+           "n.id, n.message, n.read, i.id, i.name, n.notificationDate) " +
+           "FROM Notification n JOIN n.item i " +
+           "WHERE n.user.id = :userId " +
+           "AND (n.notificationDate < :before OR (n.notificationDate = :before AND n.id < :beforeId)) " +
+           "ORDER BY n.notificationDate DESC, n.id DESC")
+    List<NotificationSummaryResponse> findInboxPage(@Param("userId") String userId,
+                                                    @Param("before") LocalDateTime before,
+                                                    @Param("beforeId") Long beforeId,
+                                                    Pageable pageable);
+
+    @Query("SELECT new com.ntn.auction.dto.response.NotificationSummaryResponse(" +
+           "n.id, n.message, n.read, i.id, i.name, n.notificationDate) " +
+           "FROM Notification n JOIN n.item i " +
+           "WHERE n.user.id = :userId AND n.read = false " +
+           "AND (n.notificationDate < :before OR (n.notificationDate = :before AND n.id < :beforeId)) " +
+           "ORDER BY n.notificationDate DESC, n.id DESC")
+    List<NotificationSummaryResponse> findUnreadInboxPage(@Param("userId") String userId,
+                                                          @Param("before") LocalDateTime before,
+                                                          @Param("beforeId") Long beforeId,
+                                                          Pageable pageable);
+
+    // Counter reconciliation - users without unread notifications are absent from the result
+    @Query("SELECT new com.ntn.auction.dto.UnreadCount(n.user.id, COUNT(n)) FROM Notification n " +
+           "WHERE n.read = false AND n.user.id IN :userIds GROUP BY n.user.id")
+    List<UnreadCount> countUnreadByUserIds(@Param("userIds") Collection<String> userIds);
+
+    // Conditional so a notification read twice concurrently decrements the counter once
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.read = false")
+    int markAsRead(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.id IN :ids AND n.read = false")
+    int markAsRead(@Param("userId") String userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
+    int markAllAsRead(@Param("userId") String userId);
 }
@@ -0,0 +1,19 @@
+package com.ntn.auction.repository;
+
+import com.ntn.auction.entity.ShardFence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ShardFenceRepository extends JpaRepository<ShardFence, Integer> {
+
+    // Fences only move forward - a late write of an older token is a no-op
+    @Transactional
+    @Modifying
+    @Query("UPDATE ShardFence f SET f.token = :token WHERE f.shard = :shard AND f.token < :token")
+    int advance(@Param("shard") Integer shard, @Param("token") Long token);
+}
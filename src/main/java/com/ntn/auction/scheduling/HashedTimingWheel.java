@@ -0,0 +1,268 @@
+package com.ntn.auction.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timing wheel for large numbers of wall-clock deadlines (auction start/end instants)
+ * <p>
+ * One worker thread advances the wheel every tick and hands expired tasks to the dispatcher executor,
+ * so scheduling and cancelling are O(1) and a slow task never delays the next tick.
+ * Deadlines further away than one revolution are kept in their bucket with a remaining-rounds counter.
+ */
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Executor dispatcher;
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong scheduledCount = new AtomicLong();
+
+    // Wall clock and monotonic clock captured together so Instant deadlines map onto nanoTime
+    private final long startNanos;
+    private final long startEpochMillis;
+
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedTimingWheel(String name, Duration tickDuration, int ticksPerWheel, Executor dispatcher) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(ticksPerWheel, 2) - 1) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.dispatcher = dispatcher;
+
+        this.startNanos = System.nanoTime();
+        this.startEpochMillis = System.currentTimeMillis();
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedule a task at an absolute instant; past instants fire on the next tick
+     */
+    public Timeout schedule(Instant deadline, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(deadline.toEpochMilli() - startEpochMillis);
+        Timeout timeout = new Timeout(deadline, deadlineNanos, task);
+        pendingTimeouts.add(timeout);
+        scheduledCount.incrementAndGet();
+        return timeout;
+    }
+
+    /**
+     * Number of timeouts scheduled and not yet expired or cancelled
+     */
+    public long pendingCount() {
+        return scheduledCount.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startNanos;
+            long sleepNanos = deadline - current;
+            if (sleepNanos <= 0) {
+                return current;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        // Bounded per tick so a scheduling burst cannot starve expiration
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            long calculated = Math.max(0, (timeout.deadlineNanos - startNanos) / tickNanos);
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void dispatch(Timeout timeout) {
+        scheduledCount.decrementAndGet();
+        try {
+            dispatcher.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            log.error("Timing wheel dispatcher rejected task due at {}, running inline", timeout.deadline);
+            timeout.task.run();
+        } catch (Exception e) {
+            log.error("Timer task due at {} failed: {}", timeout.deadline, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Handle to a scheduled task
+     */
+    public final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Instant deadline;
+        private final long deadlineNanos;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+
+        // Owned by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(Instant deadline, long deadlineNanos, Runnable task) {
+            this.deadline = deadline;
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+
+        public Instant deadline() {
+            return deadline;
+        }
+
+        public boolean cancel() {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            scheduledCount.decrementAndGet();
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(INIT, EXPIRED)) {
+                dispatch(this);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts, only touched by the worker thread
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    // Rounds are counted from the insertion tick, so a zero count means this revolution is due
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ntn.auction.scheduling;
+
+import java.util.Collection;
+
+/**
+ * Rendezvous (highest random weight) assignment of item shards to cluster nodes
+ * Every node computes the same owner from the same live-node set, and a node joining or leaving only moves
+ * the shards it wins or loses - roughly 1/N of them - instead of reshuffling everything.
+ */
+public final class ShardAssignment {
+
+    private ShardAssignment() {
+    }
+
+    public static int shardOf(long itemId, int shardCount) {
+        return (int) Math.floorMod(mix(itemId), (long) shardCount);
+    }
+
+    /**
+     * @return the node with the highest weight for the shard, null when no node is live
+     */
+    public static String ownerOf(int shard, Collection<String> nodes) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String node : nodes) {
+            long weight = mix(node.hashCode() * 0x9E3779B97F4A7C15L + shard);
+            if (owner == null || weight > best || (weight == best && node.compareTo(owner) < 0)) {
+                owner = node;
+                best = weight;
+            }
+        }
+        return owner;
+    }
+
+    // SplitMix64 finalizer - spreads sequential ids and small shard numbers over the whole range
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
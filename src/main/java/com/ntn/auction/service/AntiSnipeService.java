@@ -0,0 +1,117 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.AuctionSchedule;
+import com.ntn.auction.dto.event.AuctionExtendedEvent;
+import com.ntn.auction.engine.AntiSnipePolicy;
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.repository.ItemRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Extends auctions that receive a bid in their final minutes
+ * The extension is a compare-and-set on the item's end date, so when several last-second bids race
+ * (across nodes or after a lock timeout) exactly one of them extends per end date.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AntiSnipeService {
+
+    ItemRepository itemRepository;
+    RedisService redisService;
+    WebSocketService webSocketService;
+    ApplicationEventPublisher eventPublisher;
+
+    @NonFinal
+    @Value("${auction.anti-snipe.default-extension-minutes:5}")
+    protected int defaultExtensionMinutes;
+
+    @NonFinal
+    @Value("${auction.anti-snipe.default-threshold-minutes:2}")
+    protected int defaultThresholdMinutes;
+
+    @NonFinal
+    @Value("${auction.anti-snipe.max-extensions:3}")
+    protected int defaultMaxExtensions;
+
+    /**
+     * Extend the auction if the bid lands inside the anti-snipe threshold
+     * Call it from the transaction that persists the bid, so the extension commits or rolls back with the bid.
+     * On success the given item is updated in place; once the transaction commits the cached copy is refreshed,
+     * the close timer moved and a status update pushed to {@code /topic/item/{id}/status}.
+     *
+     * @param item    item the bid was accepted on
+     * @param bidTime acceptance time of the bid
+     * @return true if this bid extended the auction
+     */
+    @Transactional
+    public boolean extendIfSniping(Item item, LocalDateTime bidTime) {
+        AntiSnipePolicy policy = policyFor(item);
+        LocalDateTime endDate = item.getAuctionEndDate();
+        int extensions = item.getCurrentExtensions() != null ? item.getCurrentExtensions() : 0;
+
+        if (!policy.shouldExtend(toEpochMillis(bidTime), toEpochMillis(endDate), extensions)) {
+            return false;
+        }
+
+        LocalDateTime newEndDate = endDate.plus(Duration.ofMillis(policy.extensionMillis()));
+        int updated = itemRepository.extendAuctionEnd(item.getId(), endDate, newEndDate, policy.maxExtensions());
+
+        if (updated == 0) {
+            // A concurrent bid already extended this end date, or the limit was reached - refresh the stale snapshot
+            itemRepository.findById(item.getId()).ifPresent(redisService::cacheItem);
+            log.debug("Anti-snipe extension for item {} lost the race or hit the limit", item.getId());
+            return false;
+        }
+
+        item.setAuctionEndDate(newEndDate);
+        item.setCurrentExtensions(extensions + 1);
+
+        // AuctionTimerService moves the close timer once the extension is committed
+        eventPublisher.publishEvent(AuctionSchedule.of(item));
+        // Cached and pushed only once committed, so clients never see an extension that is rolled back
+        eventPublisher.publishEvent(new AuctionExtendedEvent(item.toBuilder().images(null).build(), policy.maxExtensions()));
+
+        log.info("Anti-snipe: item {} extended from {} to {} ({} of {})",
+                item.getId(), endDate, newEndDate, extensions + 1, policy.maxExtensions());
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExtended(AuctionExtendedEvent event) {
+        Item item = event.getItem();
+        redisService.cacheItem(item);
+        webSocketService.sendAuctionStatusUpdate(item, "EXTENDED",
+                "Auction extended to " + item.getAuctionEndDate()
+                + " (" + item.getCurrentExtensions() + "/" + event.getMaxExtensions() + ")");
+    }
+
+    private AntiSnipePolicy policyFor(Item item) {
+        int thresholdMinutes = item.getAntiSnipeThresholdMinutes() != null ? item.getAntiSnipeThresholdMinutes() : defaultThresholdMinutes;
+        int extensionMinutes = item.getAntiSnipeExtensionMinutes() != null ? item.getAntiSnipeExtensionMinutes() : defaultExtensionMinutes;
+        int maxExtensions = item.getMaxExtensions() != null ? item.getMaxExtensions() : defaultMaxExtensions;
+
+        return new AntiSnipePolicy(
+                Duration.ofMinutes(thresholdMinutes).toMillis(),
+                Duration.ofMinutes(extensionMinutes).toMillis(),
+                maxExtensions);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
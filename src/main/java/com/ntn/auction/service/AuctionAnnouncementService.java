@@ -0,0 +1,105 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.AuctionEndingSoonEvent;
+import com.ntn.auction.dto.event.AuctionStartEvent;
+import com.ntn.auction.entity.Item;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongConsumer;
+
+/**
+ * Pushes auction start and ending-soon announcements instead of clients polling the item endpoints
+ * <p>
+ * Announcements are queued and flushed every {@code auction.events.batch-interval-ms}: the global topics
+ * {@code /topic/auctions/started} and {@code /topic/auctions/ending-soon} receive one list per flush,
+ * so hundreds of auctions starting on the same minute cost a single frame per subscriber.
+ * Item pages subscribe to {@code /topic/item/{id}/started} and {@code /topic/item/{id}/ending-soon}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionAnnouncementService {
+
+    private static final String STARTED_TOPIC = "/topic/auctions/started";
+    private static final String ENDING_SOON_TOPIC = "/topic/auctions/ending-soon";
+
+    StompBroadcastService stompBroadcastService;
+    ItemEventFeed itemEventFeed;
+
+    Queue<Announcement> pending = new ConcurrentLinkedQueue<>();
+
+    public void announceStart(Item item) {
+        AuctionStartEvent event = AuctionStartEvent.builder()
+                .itemId(item.getId())
+                .itemName(item.getName())
+                .startingPrice(item.getStartingPrice())
+                .startTime(item.getAuctionStartDate())
+                .endTime(item.getAuctionEndDate())
+                .build();
+        pending.add(new Announcement(STARTED_TOPIC, item.getId(), "/topic/item/" + item.getId() + "/started", event, event::setSequence));
+    }
+
+    public void announceEndingSoon(Item item) {
+        AuctionEndingSoonEvent event = AuctionEndingSoonEvent.builder()
+                .itemId(item.getId())
+                .itemName(item.getName())
+                .currentBidPrice(item.getCurrentBidPrice() != null ? item.getCurrentBidPrice() : item.getStartingPrice())
+                .endTime(item.getAuctionEndDate())
+                .secondsRemaining(Math.max(0, Duration.between(LocalDateTime.now(), item.getAuctionEndDate()).toSeconds()))
+                .build();
+        pending.add(new Announcement(ENDING_SOON_TOPIC, item.getId(), "/topic/item/" + item.getId() + "/ending-soon", event, event::setSequence));
+    }
+
+    @Scheduled(fixedDelayString = "${auction.events.batch-interval-ms:250}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Object>> batches = new LinkedHashMap<>();
+        Announcement announcement;
+        while ((announcement = pending.poll()) != null) {
+            publishToItem(announcement);
+            batches.computeIfAbsent(announcement.globalTopic(), topic -> new ArrayList<>()).add(announcement.payload());
+        }
+        batches.forEach(this::send);
+
+        log.debug("Flushed auction announcements: {}", batches.keySet());
+    }
+
+    private void publishToItem(Announcement announcement) {
+        try {
+            itemEventFeed.publish(announcement.itemId(), announcement.itemTopic(), sequence -> {
+                announcement.sequenceSetter().accept(sequence);
+                return announcement.payload();
+            });
+        } catch (Exception e) {
+            log.error("Failed to send announcement to {}: {}", announcement.itemTopic(), e.getMessage());
+        }
+    }
+
+    private void send(String destination, Object payload) {
+        try {
+            stompBroadcastService.broadcast(payload, destination);
+        } catch (Exception e) {
+            log.error("Failed to send announcement to {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private record Announcement(String globalTopic, Long itemId, String itemTopic, Object payload, LongConsumer sequenceSetter) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.entity.AuctionSettlement;
+import com.ntn.auction.entity.Bid;
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.repository.AuctionSettlementRepository;
+import com.ntn.auction.repository.BidRepository;
+import com.ntn.auction.repository.ItemRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Close step of the auction settlement saga, in its own short transaction
+ * The ACTIVE -> SOLD/EXPIRED status update is a compare-and-set and acts as the close marker:
+ * whichever caller (timer, fallback sweep, another node) flips it first records the settlement row,
+ * every other attempt is a no-op. It is fenced with the caller's shard lease token, so a node that lost the
+ * shard cannot close even after passing the lease check. The remaining steps run in {@link AuctionSettlementService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionClosingService {
+
+    ItemRepository itemRepository;
+    BidRepository bidRepository;
+    AuctionSettlementRepository auctionSettlementRepository;
+    RedisService redisService;
+    ShardOwnershipService shardOwnershipService;
+    ReserveService reserveService;
+
+    /**
+     * @return true if this call closed the item
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean closeItem(Long itemId) {
+        // Fenced lease check - a node that lost the shard must not settle its auctions
+        OptionalLong leaseToken = shardOwnershipService.leaseToken(itemId);
+        if (leaseToken.isEmpty()) {
+            log.debug("Node no longer owns item {}, skipping close", itemId);
+            return false;
+        }
+
+        Item item = itemRepository.findById(itemId).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        if (item == null || item.getStatus() != Item.ItemStatus.ACTIVE || item.getAuctionEndDate().isAfter(now)) {
+            return false;
+        }
+
+        Optional<Bid> topBidOpt = bidRepository.findTopByItemOrderByAmountDesc(item);
+        // Bids only go up, so the top bid alone decides the reserve - no bid rescan is needed here
+        Optional<Bid> highestBidOpt = topBidOpt.filter(bid -> reserveService.isReserveSatisfied(item, bid.getAmount()));
+        Item.ItemStatus finalStatus = highestBidOpt.isPresent() ? Item.ItemStatus.SOLD : Item.ItemStatus.EXPIRED;
+
+        // Status and final price in the one fenced update - the item is not saved again afterwards
+        if (itemRepository.markClosed(itemId, finalStatus, highestBidOpt.map(Bid::getAmount).orElse(null), now,
+                shardOwnershipService.shardOf(itemId), leaseToken.getAsLong()) == 0) {
+            log.debug("Item {} already closed, extended or fenced off, skipping", itemId);
+            return false;
+        }
+
+        auctionSettlementRepository.save(AuctionSettlement.builder()
+                .itemId(itemId)
+                .step(topBidOpt.isPresent()
+                        ? AuctionSettlement.SettlementStep.SETTLE_BIDS
+                        : AuctionSettlement.SettlementStep.SETTLE_PROXIES)
+                .finalStatus(finalStatus)
+                .winningBidId(highestBidOpt.map(Bid::getId).orElse(null))
+                .nextAttemptAt(now.plus(AuctionSettlementService.STALL_TIMEOUT))
+                .closedAt(now)
+                .build());
+
+        redisService.evictCachedItem(itemId);
+
+        if (highestBidOpt.isPresent()) {
+            log.info("Item {} was sold to user {} for {}",
+                    itemId, highestBidOpt.get().getBuyer().getId(), highestBidOpt.get().getAmount());
+        } else if (topBidOpt.isPresent()) {
+            log.info("Item {} has expired, top bid {} below reserve {}", itemId, topBidOpt.get().getAmount(), item.getReservePrice());
+        } else {
+            log.info("Item {} has expired with no bid", itemId);
+        }
+        return true;
+    }
+}
@@ -1,41 +1,100 @@
 package com.ntn.auction.service;
 
+import com.ntn.auction.dto.AuctionSchedule;
+import com.ntn.auction.dto.event.AuctionActivatedEvent;
 import com.ntn.auction.dto.request.ItemAuctionUpdateRequest;
-import com.ntn.auction.entity.Bid;
 import com.ntn.auction.entity.Item;
 import com.ntn.auction.mapper.ItemMapper;
-import com.ntn.auction.repository.BidRepository;
 import com.ntn.auction.repository.ItemRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Slf4j
 public class AuctionLifeCycleService {
     // Repositories
     ItemRepository itemRepository;
-    BidRepository bidRepository;
 
     // Mappers
     ItemMapper itemMapper;
 
     // Focused Service following SRP
-    NotificationService notificationService;
-    BidService bidService;
+    AuctionSettlementService auctionSettlementService;
+    RedisService redisService;
+    ShardOwnershipService shardOwnershipService;
+    AuctionAnnouncementService auctionAnnouncementService;
+    ApplicationEventPublisher eventPublisher;
+
+    // Bounded pool for the closing pipeline, one partition per thread
+    Executor auctionCloseExecutor;
+
+    @NonFinal
+    @Value("${auction.closing.partitions:8}")
+    protected int closingPartitions;
+
+    /**
+     * Activate a single item when its start instant is reached (fired by the timing wheel)
+     * Idempotent: items that are no longer PENDING/UPCOMING or not yet due are left untouched, and the status update
+     * is a compare-and-set, so only one of several concurrent activations announces the start
+     *
+     * @return the schedule of the activated item, empty if nothing changed
+     */
+    @Transactional
+    public Optional<AuctionSchedule> activateItem(Long itemId) {
+        Item item = itemRepository.findById(itemId).orElse(null);
+        if (item == null || (item.getStatus() != Item.ItemStatus.PENDING && item.getStatus() != Item.ItemStatus.UPCOMING)) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (item.getAuctionStartDate().isAfter(now)) {
+            return Optional.empty();
+        }
+
+        if (itemRepository.markActive(itemId, now) == 0) {
+            log.debug("Item {} already activated, skipping", itemId);
+            return Optional.empty();
+        }
+
+        // The managed entity is left as loaded, so it is not written a second time at commit
+        Item activated = item.toBuilder().status(Item.ItemStatus.ACTIVE).images(null).build();
+        eventPublisher.publishEvent(new AuctionActivatedEvent(activated));
+
+        log.info("Move item {} from {} to ACTIVE on schedule", itemId, item.getStatus());
+        return Optional.of(AuctionSchedule.of(activated));
+    }
+
+    /**
+     * Write through once the activation commits, so the first bids find the ACTIVE snapshot warmed up before the
+     * start, and never announce a start that is rolled back
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivated(AuctionActivatedEvent event) {
+        redisService.cacheItem(event.getItem());
+        auctionAnnouncementService.announceStart(event.getItem());
+    }
 
     // Scheduled task to process the auction lifecycle every 5 minutes
+    // Fallback sweep - the timing wheel in AuctionTimerService fires the exact transitions
+    // Each node only processes items in the shards it owns
     // - Move items from PENDING to UPCOMING/ACTIVE
     // - Move items from UPCOMING to ACTIVE
     // - End ACTIVE auctions to SOLD/EXPIRED
@@ -67,6 +126,7 @@ public class AuctionLifeCycleService {
 
         // Find all items that are approved and have auction start date before now
         List<Item> approvedItems = itemRepository.findByStatusAndAuctionStartDateBefore(Item.ItemStatus.PENDING, now);
+        approvedItems.removeIf(item -> !shardOwnershipService.owns(item.getId()));
 
         for (Item item : approvedItems) {
             ItemAuctionUpdateRequest updateRequest = ItemAuctionUpdateRequest.builder().build();
@@ -84,6 +144,10 @@ public class AuctionLifeCycleService {
 
         if (!approvedItems.isEmpty()) {
             itemRepository.saveAll(approvedItems);
+            approvedItems.forEach(redisService::cacheItem);
+            approvedItems.stream()
+                    .filter(item -> item.getStatus() == Item.ItemStatus.ACTIVE)
+                    .forEach(auctionAnnouncementService::announceStart);
         }
     }
 
@@ -92,6 +156,7 @@ public class AuctionLifeCycleService {
 
         List<Item> upcomingItems = itemRepository.findByStatusAndAuctionStartDateBefore(
                 Item.ItemStatus.UPCOMING, now);
+        upcomingItems.removeIf(item -> !shardOwnershipService.owns(item.getId()));
 
         for (Item item : upcomingItems) {
             ItemAuctionUpdateRequest updateRequest = ItemAuctionUpdateRequest.builder()
@@ -104,61 +169,47 @@ public class AuctionLifeCycleService {
 
         if (!upcomingItems.isEmpty()) {
             itemRepository.saveAll(upcomingItems);
+            upcomingItems.forEach(redisService::cacheItem);
+            upcomingItems.forEach(auctionAnnouncementService::announceStart);
         }
     }
 
+    /**
+     * Partitioned closing pipeline
+     * Expired items are split by id into {@code auction.closing.partitions} partitions that run in parallel on the
+     * bounded close executor. Each item closes and settles in its own transactions, so one failure only affects that item.
+     */
     private void processActiveItems() {
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Item> expiredItems = itemRepository.findByStatusAndAuctionEndDateBefore(
-                Item.ItemStatus.ACTIVE, now);
-
-        for (Item item : expiredItems) {
-            processAuctionEnd(item);
+        List<Long> expiredItemIds = itemRepository.findExpiredActiveItemIds(LocalDateTime.now()).stream()
+                .filter(shardOwnershipService::owns)
+                .toList();
+        if (expiredItemIds.isEmpty()) {
+            return;
         }
-    }
-
-    private void processAuctionEnd(Item item) {
-        // Find the highest bid for this item
-        Optional<Bid> highestBidOpt = bidRepository.findTopByItemOrderByAmountDesc(item);
-
-        if (highestBidOpt.isPresent()) {
-            Bid winningBid = highestBidOpt.get();
-
-            // Update item status to SOLD
-            ItemAuctionUpdateRequest itemUpdate = ItemAuctionUpdateRequest.builder()
-                    .status(Item.ItemStatus.SOLD)
-                    .currentBidPrice(winningBid.getAmount())
-                    .build();
-            itemMapper.mapItemAuctionUpdate(itemUpdate, item);
-
-            // Update the winning bid status
-            bidService.updateBidsStatus(item, winningBid);
-
-            // Create notifications for the winning bid
-            notificationService.createNotifications(item, winningBid.getBuyer());
 
-            // Send WebSocket notification for auction end
-            notificationService.sendAuctionEndNotification(item, winningBid);
+        Map<Long, List<Long>> partitions = expiredItemIds.stream()
+                .collect(Collectors.groupingBy(id -> id % closingPartitions));
 
-            log.info("Item {} was sold to user {} for {}",
-                    item.getId(), winningBid.getBuyer().getId(), winningBid.getAmount());
+        List<CompletableFuture<Integer>> futures = partitions.values().stream()
+                .map(ids -> CompletableFuture.supplyAsync(() -> closePartition(ids), auctionCloseExecutor))
+                .toList();
 
-        } else {
-            // No bids were placed, mark item as EXPIRED
-            ItemAuctionUpdateRequest itemUpdate = ItemAuctionUpdateRequest.builder()
-                    .status(Item.ItemStatus.EXPIRED)
-                    .build();
-            itemMapper.mapItemAuctionUpdate(itemUpdate, item);
-
-            notificationService.createExpiredNotification(item);
-
-            // Send WebSocket notification for auction end with no bids
-            notificationService.sendAuctionEndNotification(item, null);
+        int closed = futures.stream().mapToInt(CompletableFuture::join).sum();
+        log.info("Closed {} of {} expired auctions in {} partitions", closed, expiredItemIds.size(), partitions.size());
+    }
 
-            log.info("Item {} has expired with no bid", item.getId());
+    private int closePartition(List<Long> itemIds) {
+        int closed = 0;
+        for (Long itemId : itemIds) {
+            try {
+                if (auctionSettlementService.closeAndSettle(itemId)) {
+                    closed++;
+                }
+            } catch (Exception e) {
+                // Left ACTIVE - the timer or the next sweep retries it
+                log.error("Failed to close auction for item {}: {}", itemId, e.getMessage(), e);
+            }
         }
-
-        itemRepository.save(item);
+        return closed;
     }
 }
@@ -0,0 +1,104 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.entity.AuctionSettlement;
+import com.ntn.auction.entity.AuctionSettlement.SettlementStep;
+import com.ntn.auction.repository.AuctionSettlementRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Resumable auction settlement saga: close, settle bids, settle proxies, notify, publish
+ * <p>
+ * The close step ({@link AuctionClosingService}) records an {@link AuctionSettlement} row; every later step runs
+ * in its own transaction through {@link AuctionSettlementSteps}. A failing step is retried on its own with
+ * exponential backoff, and settlements interrupted by a crash are picked up by the resumer once their
+ * stall timeout passes. NOTIFY is completed asynchronously by {@link NotificationWriter}, which resumes the
+ * settlement from PUBLISH once its batch commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionSettlementService {
+
+    // A settlement untouched for this long is considered abandoned and resumed by any owner
+    static final Duration STALL_TIMEOUT = Duration.ofMinutes(2);
+
+    AuctionClosingService auctionClosingService;
+    AuctionSettlementSteps auctionSettlementSteps;
+    AuctionSettlementRepository auctionSettlementRepository;
+    ShardOwnershipService shardOwnershipService;
+
+    @NonFinal
+    @Value("${auction.settlement.retry-base-ms:2000}")
+    protected long retryBaseMillis;
+
+    @NonFinal
+    @Value("${auction.settlement.retry-max-ms:300000}")
+    protected long retryMaxMillis;
+
+    /**
+     * Close an expired auction and run its settlement
+     *
+     * @return true if this call closed the item
+     */
+    public boolean closeAndSettle(Long itemId) {
+        if (!auctionClosingService.closeItem(itemId)) {
+            return false;
+        }
+        advance(itemId);
+        return true;
+    }
+
+    /**
+     * Run the remaining steps until done or until a step fails
+     */
+    public void advance(Long itemId) {
+        AuctionSettlement settlement = auctionSettlementRepository.findByItemId(itemId).orElse(null);
+        if (settlement == null) {
+            return;
+        }
+
+        SettlementStep step = settlement.getStep();
+        while (step != SettlementStep.DONE) {
+            try {
+                SettlementStep next = auctionSettlementSteps.execute(settlement.getId(), step);
+                if (next == step) {
+                    // Handed off (NOTIFY): the notification writer continues the settlement
+                    return;
+                }
+                step = next;
+            } catch (Exception e) {
+                try {
+                    auctionSettlementSteps.recordFailure(settlement.getId(), step, e,
+                            Duration.ofMillis(retryBaseMillis), Duration.ofMillis(retryMaxMillis));
+                } catch (Exception recordError) {
+                    log.error("Failed to record settlement failure for item {}: {}", itemId, recordError.getMessage());
+                }
+                return;
+            }
+        }
+        log.info("Settlement of item {} completed", itemId);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.settlement.resume-interval-ms:5000}")
+    public void resumeDueSettlements() {
+        List<Long> dueItemIds = auctionSettlementRepository.findDueItemIds(LocalDateTime.now(), PageRequest.of(0, 100));
+        for (Long itemId : dueItemIds) {
+            if (shardOwnershipService.owns(itemId)) {
+                advance(itemId);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.PendingNotificationsEvent;
+import com.ntn.auction.dto.request.NotificationCreateRequest;
+import com.ntn.auction.entity.AuctionSettlement;
+import com.ntn.auction.entity.AuctionSettlement.SettlementStep;
+import com.ntn.auction.entity.Bid;
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.entity.Notification;
+import com.ntn.auction.exception.ItemNotFoundException;
+import com.ntn.auction.repository.AuctionSettlementRepository;
+import com.ntn.auction.repository.BidRepository;
+import com.ntn.auction.repository.ItemRepository;
+import com.ntn.auction.repository.NotificationRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Individual settlement steps, each in its own transaction
+ * A step's work and the advance of the step pointer commit together, so a completed step is never repeated.
+ * PUBLISH is the exception: WebSocket delivery cannot join the transaction and is at-least-once.
+ * NOTIFY only hands its notifications to the {@link NotificationWriter}; the writer's batch transaction inserts them
+ * and advances the step, see {@link #completeNotify(Collection)}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionSettlementSteps {
+
+    AuctionSettlementRepository auctionSettlementRepository;
+    ItemRepository itemRepository;
+    BidRepository bidRepository;
+    NotificationRepository notificationRepository;
+    BidService bidService;
+    ProxyBidService proxyBidService;
+    NotificationService notificationService;
+    ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Run the expected step if the settlement is still on it
+     *
+     * @return the step the settlement is on afterwards
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public SettlementStep execute(Long settlementId, SettlementStep expected) {
+        AuctionSettlement settlement = auctionSettlementRepository.findById(settlementId)
+                .orElseThrow(() -> new IllegalStateException("Settlement not found: " + settlementId));
+        if (settlement.getStep() != expected) {
+            // Another runner already completed this step
+            return settlement.getStep();
+        }
+
+        Item item = itemRepository.findById(settlement.getItemId())
+                .orElseThrow(() -> new ItemNotFoundException("Item not found: " + settlement.getItemId()));
+        Bid winningBid = settlement.getWinningBidId() != null
+                ? bidRepository.findById(settlement.getWinningBidId()).orElse(null)
+                : null;
+
+        SettlementStep next = switch (expected) {
+            case SETTLE_BIDS -> {
+                if (winningBid != null) {
+                    bidService.updateBidsStatus(item, winningBid);
+                } else {
+                    // Bids were placed but the reserve was not met
+                    bidRepository.markLosingBids(item.getId(), null);
+                }
+                yield SettlementStep.SETTLE_PROXIES;
+            }
+            case SETTLE_PROXIES -> {
+                proxyBidService.updateProxyBidsAtAuctionEnd(item, winningBid);
+                yield SettlementStep.NOTIFY;
+            }
+            case NOTIFY -> {
+                List<NotificationCreateRequest> pending = winningBid != null
+                        ? notificationService.soldNotifications(item, winningBid.getBuyer())
+                        : notificationService.expiredNotifications(item);
+                // Queued once this transaction commits; the step stays on NOTIFY until the writer inserts them
+                eventPublisher.publishEvent(new PendingNotificationsEvent(settlement.getId(), item.getId(), pending));
+                yield SettlementStep.NOTIFY;
+            }
+            case PUBLISH -> {
+                notificationService.publishNotifications(notificationRepository.findAllById(parseIds(settlement.getNotificationIds())));
+                notificationService.sendAuctionEndNotification(item, winningBid);
+                yield SettlementStep.DONE;
+            }
+            case DONE -> SettlementStep.DONE;
+        };
+
+        moveTo(settlement, next);
+        log.debug("Settlement of item {}: {} -> {}", settlement.getItemId(), expected, next);
+        return next;
+    }
+
+    /**
+     * Insert the notifications of settlements still on NOTIFY in one batch and move them to PUBLISH
+     * Handoffs of settlements that already left NOTIFY (redone by the resumer, or queued twice) are skipped.
+     *
+     * @return ids of the items whose settlement advanced
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> completeNotify(Collection<PendingNotificationsEvent> batch) {
+        Map<Long, AuctionSettlement> settlements = auctionSettlementRepository
+                .findAllById(batch.stream().map(PendingNotificationsEvent::getSettlementId).toList()).stream()
+                .filter(settlement -> settlement.getStep() == SettlementStep.NOTIFY)
+                .collect(Collectors.toMap(AuctionSettlement::getId, Function.identity()));
+
+        Map<Long, PendingNotificationsEvent> due = new LinkedHashMap<>();
+        for (PendingNotificationsEvent pending : batch) {
+            if (settlements.containsKey(pending.getSettlementId())) {
+                due.putIfAbsent(pending.getSettlementId(), pending);
+            }
+        }
+
+        List<Notification> created = notificationService.createAll(due.values().stream()
+                .flatMap(pending -> pending.getNotifications().stream())
+                .toList());
+
+        int offset = 0;
+        List<Long> advancedItemIds = new ArrayList<>(due.size());
+        for (PendingNotificationsEvent pending : due.values()) {
+            int count = pending.getNotifications().size();
+            AuctionSettlement settlement = settlements.get(pending.getSettlementId());
+            settlement.setNotificationIds(created.subList(offset, offset + count).stream()
+                    .map(notification -> String.valueOf(notification.getId()))
+                    .collect(Collectors.joining(",")));
+            moveTo(settlement, SettlementStep.PUBLISH);
+            advancedItemIds.add(settlement.getItemId());
+            offset += count;
+        }
+        return advancedItemIds;
+    }
+
+    private void moveTo(AuctionSettlement settlement, SettlementStep next) {
+        LocalDateTime now = LocalDateTime.now();
+        settlement.setStep(next);
+        settlement.setAttempts(0);
+        settlement.setLastError(null);
+        settlement.setNextAttemptAt(now.plus(AuctionSettlementService.STALL_TIMEOUT));
+        if (next == SettlementStep.DONE) {
+            settlement.setCompletedAt(now);
+        }
+        auctionSettlementRepository.save(settlement);
+    }
+
+    /**
+     * Schedule a retry of the failed step with exponential backoff
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long settlementId, SettlementStep step, Exception error, Duration retryBase, Duration retryMax) {
+        auctionSettlementRepository.findById(settlementId).ifPresent(settlement -> {
+            if (settlement.getStep() != step) {
+                return;
+            }
+            int attempts = settlement.getAttempts() + 1;
+            long delayMillis = Math.min(retryMax.toMillis(), retryBase.toMillis() << Math.min(attempts - 1, 20));
+            String message = String.valueOf(error.getMessage());
+
+            settlement.setAttempts(attempts);
+            settlement.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delayMillis)));
+            settlement.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+            auctionSettlementRepository.save(settlement);
+
+            log.warn("Settlement of item {} failed at {} (attempt {}), retrying in {} ms: {}",
+                    settlement.getItemId(), step, attempts, delayMillis, message);
+        });
+    }
+
+    private static List<Long> parseIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,296 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.AuctionSchedule;
+import com.ntn.auction.dto.event.ShardOwnershipChangedEvent;
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.repository.ItemRepository;
+import com.ntn.auction.scheduling.HashedTimingWheel;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fires exact per-item auction transitions from an in-memory timing wheel
+ * <p>
+ * The wheel only holds instants inside a sliding horizon (default 10 minutes). A periodic incremental scan
+ * loads the schedules that entered the horizon since the previous scan, and schedule changes published by
+ * other services (item created, status changed, end date extended) are applied directly. Items about to start
+ * get a warmup timer ahead of the start (see {@link AuctionWarmupService}), running auctions get ending-soon
+ * timers at each {@code auction.events.ending-soon-seconds} lead (see {@link AuctionAnnouncementService}).
+ * Only items in shards owned by this node (see {@link ShardOwnershipService}) are tracked.
+ * {@link AuctionLifeCycleService#processAuctionLifecycle()} remains as a fallback sweep.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionTimerService {
+
+    private static final List<Item.ItemStatus> STARTABLE_STATUSES = List.of(Item.ItemStatus.PENDING, Item.ItemStatus.UPCOMING);
+
+    HashedTimingWheel auctionTimingWheel;
+    ItemRepository itemRepository;
+    AuctionLifeCycleService auctionLifeCycleService;
+    AuctionSettlementService auctionSettlementService;
+    AuctionWarmupService auctionWarmupService;
+    AuctionAnnouncementService auctionAnnouncementService;
+    ItemSnapshotLoader itemSnapshotLoader;
+    ShardOwnershipService shardOwnershipService;
+
+    Map<TimerKey, HashedTimingWheel.Timeout> timers = new ConcurrentHashMap<>();
+
+    // Upper bound of the window already loaded into the wheel, null until the first scan
+    AtomicReference<LocalDateTime> loadedHorizon = new AtomicReference<>();
+
+    @NonFinal
+    @Value("${auction.lifecycle.horizon-minutes:10}")
+    protected long horizonMinutes;
+
+    @NonFinal
+    @Value("${auction.warmup.lead-seconds:30}")
+    protected long warmupLeadSeconds;
+
+    @NonFinal
+    @Value("${auction.events.ending-soon-seconds:3600,600,60}")
+    protected long[] endingSoonLeadSeconds;
+
+    /**
+     * Incremental scan: only schedules whose instant falls between the previous horizon and the new one are loaded
+     * <p>
+     * Synchronized with the full reload after an ownership change, so two scans never advance the horizon together.
+     */
+    @Scheduled(fixedDelayString = "${auction.lifecycle.refill-interval-ms:60000}")
+    public synchronized void refillHorizon() {
+        LocalDateTime from = loadedHorizon.get();
+        LocalDateTime to = LocalDateTime.now().plusMinutes(horizonMinutes);
+        if (from != null && !to.isAfter(from)) {
+            return;
+        }
+
+        // Advance first so schedules published while the scan runs are tracked directly instead of being missed
+        loadedHorizon.set(to);
+        try {
+            List<AuctionSchedule> starts = from == null
+                    ? itemRepository.findStartSchedulesUntil(STARTABLE_STATUSES, to)
+                    : itemRepository.findStartSchedulesBetween(STARTABLE_STATUSES, from, to);
+            List<AuctionSchedule> ends = from == null
+                    ? itemRepository.findEndSchedulesUntil(to)
+                    : itemRepository.findEndSchedulesBetween(from, to);
+
+            starts.forEach(this::track);
+            ends.forEach(this::track);
+
+            // Ending-soon instants enter the horizon before the end itself - scan the end dates shifted by each lead
+            int endingSoon = 0;
+            for (long lead : endingSoonLeadSeconds) {
+                List<AuctionSchedule> schedules = from == null
+                        ? itemRepository.findEndSchedulesUntil(to.plusSeconds(lead))
+                        : itemRepository.findEndSchedulesBetween(from.plusSeconds(lead), to.plusSeconds(lead));
+                schedules.forEach(this::track);
+                endingSoon += schedules.size();
+            }
+
+            log.debug("Timing wheel refilled up to {}: {} starts, {} ends, {} ending soon, {} timers pending",
+                    to, starts.size(), ends.size(), endingSoon, auctionTimingWheel.pendingCount());
+        } catch (Exception e) {
+            loadedHorizon.compareAndSet(to, from);
+            log.error("Failed to refill auction timing wheel: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Apply a changed schedule after the publishing transaction commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(AuctionSchedule schedule) {
+        track(schedule);
+    }
+
+    /**
+     * Drop timers of shards this node no longer owns and reload the horizon for newly owned ones
+     * <p>
+     * Published from the lease heartbeat, so the reload runs on the transition pool and never delays the next renewal.
+     */
+    @Async("auctionTransitionExecutor")
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        timers.keySet().stream()
+                .filter(key -> !shardOwnershipService.owns(key.itemId()))
+                .toList()
+                .forEach(this::cancel);
+
+        synchronized (this) {
+            loadedHorizon.set(null);
+            refillHorizon();
+        }
+    }
+
+    /**
+     * Move the end timer of an item, e.g. after an anti-snipe extension
+     */
+    public void rescheduleEnd(Long itemId, LocalDateTime newEndDate) {
+        if (shardOwnershipService.owns(itemId) && isWithinHorizon(newEndDate)) {
+            schedule(new TimerKey(itemId, TimerType.END), newEndDate);
+        } else {
+            // The next incremental scan picks it up once it enters the horizon
+            cancel(new TimerKey(itemId, TimerType.END));
+        }
+        log.debug("Rescheduled end of item {} to {}", itemId, newEndDate);
+    }
+
+    public int trackedTimers() {
+        return timers.size();
+    }
+
+    private void track(AuctionSchedule schedule) {
+        Long itemId = schedule.getItemId();
+        TimerKey warmupKey = new TimerKey(itemId, TimerType.WARMUP);
+        TimerKey startKey = new TimerKey(itemId, TimerType.START);
+        TimerKey endKey = new TimerKey(itemId, TimerType.END);
+
+        if (!shardOwnershipService.owns(itemId)) {
+            cancel(warmupKey);
+            cancel(startKey);
+            cancel(endKey);
+            for (long lead : endingSoonLeadSeconds) {
+                cancel(new TimerKey(itemId, TimerType.ENDING_SOON, lead));
+            }
+            return;
+        }
+
+        boolean startable = STARTABLE_STATUSES.contains(schedule.getStatus());
+        boolean running = schedule.getStatus() == Item.ItemStatus.ACTIVE;
+
+        if (startable && isWithinHorizon(schedule.getAuctionStartDate())) {
+            schedule(startKey, schedule.getAuctionStartDate());
+        } else {
+            cancel(startKey);
+        }
+
+        // Warmup runs ahead of the start; a start closer than the lead time warms up on the next tick
+        if (startable && isWithinHorizon(schedule.getAuctionStartDate())
+            && schedule.getAuctionStartDate().isAfter(LocalDateTime.now())) {
+            schedule(warmupKey, schedule.getAuctionStartDate().minusSeconds(warmupLeadSeconds));
+        } else {
+            cancel(warmupKey);
+        }
+
+        if ((startable || running) && isWithinHorizon(schedule.getAuctionEndDate())) {
+            schedule(endKey, schedule.getAuctionEndDate());
+        } else {
+            cancel(endKey);
+        }
+
+        for (long lead : endingSoonLeadSeconds) {
+            TimerKey endingSoonKey = new TimerKey(itemId, TimerType.ENDING_SOON, lead);
+            LocalDateTime at = schedule.getAuctionEndDate() != null ? schedule.getAuctionEndDate().minusSeconds(lead) : null;
+            if ((startable || running) && at != null && at.isAfter(LocalDateTime.now()) && isWithinHorizon(at)) {
+                schedule(endingSoonKey, at);
+            } else {
+                cancel(endingSoonKey);
+            }
+        }
+    }
+
+    private void schedule(TimerKey key, LocalDateTime at) {
+        Instant deadline = at.atZone(ZoneId.systemDefault()).toInstant();
+        timers.compute(key, (k, existing) -> {
+            if (existing != null && !existing.isExpired() && !existing.isCancelled()) {
+                if (existing.deadline().equals(deadline)) {
+                    return existing;
+                }
+                existing.cancel();
+            }
+            return auctionTimingWheel.schedule(deadline, () -> fire(k));
+        });
+    }
+
+    private void cancel(TimerKey key) {
+        HashedTimingWheel.Timeout timeout = timers.remove(key);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void fire(TimerKey key) {
+        // Drop the entry only if it still maps to the timeout that just expired, not a rescheduled one
+        timers.computeIfPresent(key, (k, timeout) -> timeout.isExpired() ? null : timeout);
+        if (!shardOwnershipService.owns(key.itemId())) {
+            return;
+        }
+
+        try {
+            switch (key.type()) {
+                case WARMUP -> auctionWarmupService.warmup(key.itemId());
+                case START -> onStart(key.itemId());
+                case ENDING_SOON -> onEndingSoon(key.itemId());
+                case END -> onEnd(key.itemId());
+            }
+        } catch (Exception e) {
+            log.error("Timed {} transition failed for item {}: {}", key.type(), key.itemId(), e.getMessage(), e);
+        }
+    }
+
+    private void onStart(Long itemId) {
+        auctionLifeCycleService.activateItem(itemId)
+                .ifPresentOrElse(this::track, () -> reconcile(itemId));
+    }
+
+    private void onEndingSoon(Long itemId) {
+        itemSnapshotLoader.load(itemId)
+                .filter(item -> item.getStatus() == Item.ItemStatus.ACTIVE
+                                && item.getAuctionEndDate().isAfter(LocalDateTime.now()))
+                .ifPresent(auctionAnnouncementService::announceEndingSoon);
+    }
+
+    private void onEnd(Long itemId) {
+        if (!auctionSettlementService.closeAndSettle(itemId)) {
+            reconcile(itemId);
+        }
+    }
+
+    /**
+     * The transition was a no-op - re-read the schedule in case the instant moved without an event
+     */
+    private void reconcile(Long itemId) {
+        LocalDateTime now = LocalDateTime.now();
+        itemRepository.findScheduleById(itemId)
+                .filter(schedule -> schedule.getAuctionStartDate().isAfter(now) || schedule.getAuctionEndDate().isAfter(now))
+                .ifPresent(this::track);
+    }
+
+    private boolean isWithinHorizon(LocalDateTime instant) {
+        LocalDateTime horizon = loadedHorizon.get();
+        return instant != null && (horizon == null || !instant.isAfter(horizon));
+    }
+
+    public enum TimerType {
+        WARMUP,
+        START,
+        ENDING_SOON,
+        END
+    }
+
+    // leadSeconds tells the ending-soon timers of one item apart, 0 for the other types
+    record TimerKey(Long itemId, TimerType type, long leadSeconds) {
+        TimerKey(Long itemId, TimerType type) {
+            this(itemId, type, 0);
+        }
+    }
+}
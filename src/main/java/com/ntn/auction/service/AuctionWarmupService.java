@@ -0,0 +1,55 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.entity.ProxyBid;
+import com.ntn.auction.repository.BidRepository;
+import com.ntn.auction.repository.ProxyBidRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Preloads the bid hot path state of an auction shortly before it starts
+ * Fired by {@link AuctionTimerService} {@code auction.warmup.lead-seconds} before the start instant, so the first
+ * bids on a hot auction hit Redis instead of falling back to MySQL inside the item lock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuctionWarmupService {
+
+    ItemSnapshotLoader itemSnapshotLoader;
+    RedisService redisService;
+    BidRepository bidRepository;
+    ProxyBidRepository proxyBidRepository;
+
+    public void warmup(Long itemId) {
+        Item item = itemSnapshotLoader.reload(itemId).orElse(null);
+        if (item == null || (item.getStatus() != Item.ItemStatus.PENDING
+                             && item.getStatus() != Item.ItemStatus.UPCOMING
+                             && item.getStatus() != Item.ItemStatus.ACTIVE)) {
+            return;
+        }
+
+        BigDecimal currentPrice = item.getCurrentBidPrice() != null ? item.getCurrentBidPrice() : item.getStartingPrice();
+        redisService.setCurrentBid(itemId, currentPrice);
+        redisService.updateItemMinIncrement(itemId, item.getMinIncreasePrice());
+        redisService.setItemBidTotal(itemId, bidRepository.countByItemId(itemId));
+
+        List<ProxyBid> proxyBids = proxyBidRepository.findActiveProxyBidsForItem(itemId);
+        Map<String, BigDecimal> maxAmountByUser = proxyBids.stream()
+                .collect(Collectors.toMap(proxyBid -> proxyBid.getUser().getId(), ProxyBid::getMaxAmount, BigDecimal::max));
+        redisService.cacheProxyIndex(itemId, maxAmountByUser);
+
+        log.info("Warmed up item {} before its start at {} ({} proxy bidders)",
+                itemId, item.getAuctionStartDate(), maxAmountByUser.size());
+    }
+}
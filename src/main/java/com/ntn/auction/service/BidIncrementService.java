@@ -9,6 +9,16 @@ import java.math.BigDecimal;
 @Slf4j
 public class BidIncrementService {
 
+    private static final BigDecimal TIER_1_MAX = new BigDecimal("49.99");
+    private static final BigDecimal TIER_2_MAX = new BigDecimal("199.99");
+    private static final BigDecimal TIER_3_MAX = new BigDecimal("999.99");
+    private static final BigDecimal TIER_4_MAX = new BigDecimal("4999.99");
+
+    private static final BigDecimal TIER_2_INCREMENT = new BigDecimal("5.00");
+    private static final BigDecimal TIER_3_INCREMENT = new BigDecimal("10.00");
+    private static final BigDecimal TIER_4_INCREMENT = new BigDecimal("50.00");
+    private static final BigDecimal TIER_5_INCREMENT = new BigDecimal("100.00");
+
     /**
      * Calculate minimum bid increment based on current bid price
      * Implements dynamic pricing tiers according to business rules:
@@ -24,16 +34,16 @@ public class BidIncrementService {
         }
 
         // Define pricing tiers
-        if (currentPrice.compareTo(new BigDecimal("49.99")) <= 0) {
+        if (currentPrice.compareTo(TIER_1_MAX) <= 0) {
             return BigDecimal.ONE; // $1
-        } else if (currentPrice.compareTo(new BigDecimal("199.99")) <= 0) {
-            return new BigDecimal("5.00"); // $5
-        } else if (currentPrice.compareTo(new BigDecimal("999.99")) <= 0) {
-            return new BigDecimal("10.00"); // $10
-        } else if (currentPrice.compareTo(new BigDecimal("4999.99")) <= 0) {
-            return new BigDecimal("50.00"); // $50
+        } else if (currentPrice.compareTo(TIER_2_MAX) <= 0) {
+            return TIER_2_INCREMENT; // $5
+        } else if (currentPrice.compareTo(TIER_3_MAX) <= 0) {
+            return TIER_3_INCREMENT; // $10
+        } else if (currentPrice.compareTo(TIER_4_MAX) <= 0) {
+            return TIER_4_INCREMENT; // $50
         } else {
-            return new BigDecimal("100.00"); // $100
+            return TIER_5_INCREMENT; // $100
         }
     }
 
@@ -64,11 +74,11 @@ public class BidIncrementService {
 
         if (increment.equals(BigDecimal.ONE)) {
             return "Tier 1: $1-$49.99 (Increment: $1)";
-        } else if (increment.equals(new BigDecimal("5.00"))) {
+        } else if (increment.equals(TIER_2_INCREMENT)) {
             return "Tier 2: $50-$199.99 (Increment: $5)";
-        } else if (increment.equals(new BigDecimal("10.00"))) {
+        } else if (increment.equals(TIER_3_INCREMENT)) {
             return "Tier 3: $200-$999.99 (Increment: $10)";
-        } else if (increment.equals(new BigDecimal("50.00"))) {
+        } else if (increment.equals(TIER_4_INCREMENT)) {
             return "Tier 4: $1,000-$4,999.99 (Increment: $50)";
         } else {
             return "Tier 5: $5,000+ (Increment: $100)";
@@ -2,6 +2,7 @@ package com.ntn.auction.service;
 
 import com.ntn.auction.dto.BidNotificationPayload;
 import com.ntn.auction.dto.event.BidProcessingEvent;
+import com.ntn.auction.dto.event.OutbidEvent;
 import com.ntn.auction.dto.BidValidationResult;
 import com.ntn.auction.dto.request.BidCreateRequest;
 import com.ntn.auction.dto.response.BidResponse;
@@ -22,6 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -52,6 +55,9 @@ public class BidOptimizedService {
     IpAddressService ipAddressService;
     BidIncrementService bidIncrementService;
     ItemService itemService;
+    AntiSnipeService antiSnipeService;
+    ItemSnapshotLoader itemSnapshotLoader;
+    ReserveService reserveService;
 
     // Event publisher for async processing
     ApplicationEventPublisher eventPublisher;
@@ -61,9 +67,15 @@ public class BidOptimizedService {
     // Phase 2: Async DB persistence + heavy processing
 
     public BidResponse placeBidOptimized(BidCreateRequest bidCreateRequest) {
+        return placeBidOptimized(bidCreateRequest, ipAddressService.getClientIpAddress());
+    }
+
+    /**
+     * Same bid path for callers outside an HTTP request (STOMP commands), which resolve the client address themselves
+     */
+    public BidResponse placeBidOptimized(BidCreateRequest bidCreateRequest, String ipAddress) {
         String lockKey = redisService.generateLockKey(bidCreateRequest.getItemId());
         String lockValue = redisService.generateLockValue();
-        String ipAddress = ipAddressService.getClientIpAddress();
 
         log.info("Processing optimized bid - User: {}, Item: {}, Amount: {}",
                 bidCreateRequest.getBuyerId(), bidCreateRequest.getItemId(), bidCreateRequest.getAmount());
@@ -121,6 +133,13 @@ public class BidOptimizedService {
             // 3. Create and persist bid in DB
             Bid persistedBid = createAndPersistBid(event, item, buyer);
 
+            // 3.1. Anti-snipe extension in the bid's transaction (CAS on the end date), judged at acceptance time,
+            // so a bid rejected here never extends the auction or uses up an extension
+            antiSnipeService.extendIfSniping(item, event.getTimestamp());
+
+            // 3.2. Reserve tracking (CAS on the reserve flag), also in the bid's transaction
+            reserveService.markReserveMetIfReached(item, event.getBidCreateRequest().getAmount());
+
             // 4. Update item in DB
             updateItemInDatabase(item, event.getBidCreateRequest().getAmount());
 
@@ -150,21 +169,19 @@ public class BidOptimizedService {
     // ===== FAST VALIDATION METHODS =====
 
     private BidValidationResult performFastValidation(BidCreateRequest request, String ipAddress) {
-        // Get cached item data
-        Item cachedItem = redisService.getCachedItem(request.getItemId());
-        if (cachedItem == null) {
-            // Fallback to DB for cache miss - but load into cache immediately
-            cachedItem = itemRepository.findById(request.getItemId())
-                    .orElseThrow(() -> new ItemNotFoundException("Item not found"));
-            redisService.cacheItem(cachedItem);
-        }
+        // Get cached item data - concurrent misses share a single DB load
+        Item cachedItem = itemSnapshotLoader.load(request.getItemId())
+                .orElseThrow(() -> new ItemNotFoundException("Item not found"));
 
         // Fast rate limiting check using Redis counters
         if (bidRateLimitService.isRateLimitedFast(request.getBuyerId(), request.getItemId())) {
             throw new BidException("Rate limit exceeded. Please wait before placing another bid.");
         }
 
-        // Fast auction timing validation
+        // Fast auction status and timing validation - the cached item is evicted on every timed transition
+        if (cachedItem.getStatus() != Item.ItemStatus.ACTIVE) {
+            throw new BidException("Auction is not active");
+        }
         LocalDateTime now = LocalDateTime.now();
         if (now.isBefore(cachedItem.getAuctionStartDate()) || now.isAfter(cachedItem.getAuctionEndDate())) {
             throw new BidException("Auction is not active");
@@ -212,6 +229,7 @@ public class BidOptimizedService {
 
         // Update bid count for rate limiting
         redisService.incrementBidCount(request.getBuyerId(), request.getItemId());
+        redisService.incrementItemBidTotal(request.getItemId());
 
         log.debug("Updated Redis state for bid {} - new price: {}, new increment: {}",
                 bidId, request.getAmount(), newMinIncrement);
@@ -225,6 +243,7 @@ public class BidOptimizedService {
             BidNotificationPayload payload = BidNotificationPayload.builder()
                     .bidId(bidId)
                     .itemId(request.getItemId())
+                    .categoryId(item.getCategory() != null ? item.getCategory().getId() : null)
                     .buyerId(request.getBuyerId())
                     .amount(request.getAmount())
                     .timestamp(LocalDateTime.now())
@@ -284,6 +303,13 @@ public class BidOptimizedService {
     }
 
     private Bid createAndPersistBid(BidProcessingEvent event, Item item, User buyer) {
+        BigDecimal amount = event.getBidCreateRequest().getAmount();
+        bidRepository.findTopByItemOrderByAmountDesc(item)
+                .map(previous -> previous.getBuyer().getId())
+                .filter(previousBuyerId -> !previousBuyerId.equals(buyer.getId()))
+                .ifPresent(previousBuyerId -> eventPublisher.publishEvent(
+                        new OutbidEvent(previousBuyerId, item.getId(), item.getName(), amount)));
+
         // Reset previous highest bid flags
         bidRepository.resetHighestBidFlags(item.getId());
         bidRepository.markPreviousBidsAsOutbid(item.getId());
@@ -330,6 +356,10 @@ public class BidOptimizedService {
     private void processProxyBidsAsync(Item item, BigDecimal newBidAmount, User excludeUser) {
         // Your existing proxy bid processing - now async
         try {
+            // The proxy index is preloaded at warmup - skip the DB scan when nobody else holds a proxy bid
+            if (Boolean.FALSE.equals(redisService.hasOtherProxyBidders(item.getId(), excludeUser.getId()))) {
+                return;
+            }
             proxyBidService.processProxyBidsAfterManualBid(item, newBidAmount, excludeUser);
         } catch (Exception e) {
             log.error("Error processing proxy bids for item {}: {}", item.getId(), e.getMessage());
@@ -348,7 +378,10 @@ public class BidOptimizedService {
 
     private void sendCompletionNotification(Bid bid, Item item) {
         try {
-            Long totalBids = bidRepository.countByItemId(item.getId());
+            Long totalBids = redisService.getItemBidTotal(item.getId());
+            if (totalBids == null) {
+                totalBids = bidRepository.countByItemId(item.getId());
+            }
             webSocketService.sendBidCompletionNotification(bid, item, totalBids);
         } catch (Exception e) {
             log.error("Error sending completion notification for bid {}: {}", bid.getId(), e.getMessage());
@@ -360,6 +393,11 @@ public class BidOptimizedService {
         // Could implement retry logic, compensation, or alerting
         log.error("Background processing failed for bid {}, implementing compensation", event.getBidId());
 
+        // Roll back whatever the bid already wrote (e.g. an anti-snipe extension) along with it
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+
         // Revert Redis state if DB processing failed
         try {
             redisService.revertBidState(event.getBidId(), event.getBidCreateRequest().getItemId());
@@ -1,6 +1,5 @@
 package com.ntn.auction.service;
 
-import com.ntn.auction.dto.request.BidUpdateRequest;
 import com.ntn.auction.dto.request.BidCreateRequest;
 import com.ntn.auction.dto.response.BidResponse;
 import com.ntn.auction.entity.Bid;
@@ -14,6 +13,7 @@ import com.ntn.auction.mapper.BidMapper;
 import com.ntn.auction.repository.BidRepository;
 import com.ntn.auction.repository.ItemRepository;
 import com.ntn.auction.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -40,6 +40,8 @@ public class BidService {
     // Mappers
     BidMapper bidMapper;
 
+    EntityManager entityManager;
+
     // Focused services following SRP
     BidAuditService bidAuditService;
     BidRateLimitService bidRateLimitService;
@@ -49,6 +51,8 @@ public class BidService {
     IpAddressService ipAddressService;
     BidIncrementService bidIncrementService;
     ItemService itemService;
+    AntiSnipeService antiSnipeService;
+    ReserveService reserveService;
 
     @Transactional
     public BidResponse placeBid(BidCreateRequest bidCreateRequest) {
@@ -104,6 +108,12 @@ public class BidService {
             // 9. Create and save bid
             Bid savedBid = createAndSaveBid(item, currentUser, bidCreateRequest.getAmount());
 
+            // 9.1. Anti-snipe extension (CAS on the end date, item entity updated in place)
+            antiSnipeService.extendIfSniping(item, savedBid.getBidTime());
+
+            // 9.2. Reserve tracking (CAS on the reserve flag)
+            reserveService.markReserveMetIfReached(item, savedBid.getAmount());
+
             // 10. Update item and cache
             updateItemAndCache(item, bidCreateRequest.getAmount());
 
@@ -137,29 +147,24 @@ public class BidService {
         return bidMapper.toResponseList(bids);
     }
 
+    /**
+     * Settle all bids of a closed auction: the winner becomes WON, every other bid LOST
+     * Two bulk statements regardless of the bid count. Bulk updates bypass the persistence context,
+     * so the winning bid the caller holds is refreshed afterwards; no other bid of the item is loaded here.
+     */
     @Transactional
     public void updateBidsStatus(Item item, Bid winningBid) {
-        List<Bid> allBids = bidRepository.findByItem(item);
-
-        for (Bid bid : allBids) {
-            BidUpdateRequest updateRequest;
-
-            if (bid.getId().equals(winningBid.getId())) {
-                updateRequest = BidUpdateRequest.builder()
-                        .status(Bid.BidStatus.WON)
-                        .highestBid(true)
-                        .build();
-            } else {
-                updateRequest = BidUpdateRequest.builder()
-                        .status(Bid.BidStatus.LOST)
-                        .highestBid(false)
-                        .build();
-            }
-
-            bidMapper.updateFromRequest(updateRequest, bid);
+        int lost = bidRepository.markLosingBids(item.getId(), winningBid.getId());
+        bidRepository.markWinningBid(winningBid.getId());
+
+        if (entityManager.contains(winningBid)) {
+            entityManager.refresh(winningBid);
+        } else {
+            winningBid.setStatus(Bid.BidStatus.WON);
+            winningBid.setHighestBid(true);
         }
 
-        bidRepository.saveAll(allBids);
+        log.debug("Settled bids for item {}: winner {}, {} lost", item.getId(), winningBid.getId(), lost);
     }
 
     @Transactional
@@ -0,0 +1,147 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.BidUpdateEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conflates bid updates per item before they are broadcast
+ * <p>
+ * Only the latest state of each item is kept and flushed to {@code /topic/item/{id}/bids} and
+ * {@code /topic/category/{categoryId}/updates}. Hot items (see {@link WatcherTracker}) are flushed at most every
+ * {@code auction.websocket.conflation-interval-ms}, so during a bidding war their many watchers get one update per
+ * interval instead of two per topic per bid; items with few watchers are flushed on the next
+ * {@code conflation-tick-ms} tick, where fan-out is cheap and latency matters more. An update is only ever
+ * replaced by a newer one, so the final state of an item is always delivered, and an update that is not newer
+ * than the last one flushed for its item (a late completion of a lower bid) is dropped, so the broadcast price
+ * never moves backwards. Skipped messages are counted in {@code auction.websocket.bid_updates.conflated}.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BidUpdateConflator {
+
+    // Each update goes to the item topic and the category topic
+    private static final int TOPICS_PER_UPDATE = 2;
+    // How long the last flushed state of an item is kept to reject late updates
+    private static final long FLUSHED_RETENTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    ItemEventFeed itemEventFeed;
+    WatcherTracker watcherTracker;
+    Counter conflatedCounter;
+    Counter sentCounter;
+
+    Map<Long, BidUpdateEvent> latest = new ConcurrentHashMap<>();
+    // Last flush per item, only touched by the flushing thread
+    Map<Long, Long> lastFlushNanos = new ConcurrentHashMap<>();
+    // Last state flushed per item, only touched by the flushing thread
+    Map<Long, Flushed> lastFlushed = new ConcurrentHashMap<>();
+
+    long hotIntervalNanos;
+
+    public BidUpdateConflator(ItemEventFeed itemEventFeed,
+                              WatcherTracker watcherTracker,
+                              MeterRegistry meterRegistry,
+                              @Value("${auction.websocket.conflation-interval-ms:100}") long hotIntervalMillis) {
+        this.itemEventFeed = itemEventFeed;
+        this.watcherTracker = watcherTracker;
+        this.hotIntervalNanos = TimeUnit.MILLISECONDS.toNanos(hotIntervalMillis);
+        this.conflatedCounter = Counter.builder("auction.websocket.bid_updates.conflated")
+                .description("Bid update messages saved by per-item conflation")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("auction.websocket.bid_updates.sent")
+                .description("Bid update messages broadcast after conflation")
+                .register(meterRegistry);
+    }
+
+    public void offer(BidUpdateEvent update) {
+        latest.merge(update.getItemId(), update, (current, candidate) -> {
+            conflatedCounter.increment(TOPICS_PER_UPDATE);
+            BidUpdateEvent winner = supersedes(candidate, current) ? candidate : current;
+            if (winner.getCategoryId() == null) {
+                winner.setCategoryId(candidate.getCategoryId() != null ? candidate.getCategoryId() : current.getCategoryId());
+            }
+            return winner;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${auction.websocket.conflation-tick-ms:20}")
+    public void flush() {
+        flush(false);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(true);
+    }
+
+    private void flush(boolean force) {
+        long now = System.nanoTime();
+        for (Long itemId : latest.keySet()) {
+            Long lastFlush = lastFlushNanos.get(itemId);
+            if (!force && lastFlush != null && now - lastFlush < hotIntervalNanos && watcherTracker.isHot(itemId)) {
+                continue;
+            }
+            // Removed one by one - an update offered meanwhile stays for the next flush
+            BidUpdateEvent update = latest.remove(itemId);
+            if (update == null) {
+                continue;
+            }
+            Flushed flushed = lastFlushed.get(itemId);
+            if (flushed != null && !supersedes(update, flushed.update())) {
+                conflatedCounter.increment(TOPICS_PER_UPDATE);
+                continue;
+            }
+            lastFlushNanos.put(itemId, now);
+            lastFlushed.put(itemId, new Flushed(update, now));
+            try {
+                update.setWatchers(watcherTracker.watchers(itemId));
+                String[] alsoTo = update.getCategoryId() != null
+                        ? new String[]{"/topic/category/" + update.getCategoryId() + "/updates"}
+                        : new String[0];
+                itemEventFeed.publish(itemId, "/topic/item/" + itemId + "/bids", sequence -> {
+                    update.setSequence(sequence);
+                    return update;
+                }, alsoTo);
+                sentCounter.increment(TOPICS_PER_UPDATE);
+            } catch (Exception e) {
+                log.error("Failed to broadcast bid update for item {}: {}", itemId, e.getMessage());
+            }
+        }
+        lastFlushNanos.entrySet().removeIf(entry -> now - entry.getValue() >= hotIntervalNanos);
+        lastFlushed.values().removeIf(flushed -> now - flushed.atNanos() >= FLUSHED_RETENTION_NANOS);
+    }
+
+    public int pendingItems() {
+        return latest.size();
+    }
+
+    /**
+     * Newer state wins: a higher amount, or the persisted version of the same amount (the completion
+     * update carries the DB bid id and total bid count, the immediate one does not)
+     */
+    static boolean supersedes(BidUpdateEvent candidate, BidUpdateEvent current) {
+        if (candidate.getAmount() == null || current.getAmount() == null) {
+            return true;
+        }
+        int byAmount = candidate.getAmount().compareTo(current.getAmount());
+        if (byAmount != 0) {
+            return byAmount > 0;
+        }
+        return candidate.getTotalBids() != null || current.getTotalBids() == null;
+    }
+
+    private record Flushed(BidUpdateEvent update, long atNanos) {
+    }
+}
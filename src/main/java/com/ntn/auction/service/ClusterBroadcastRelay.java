@@ -0,0 +1,246 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.cluster.ClusterEnvelope;
+import com.ntn.auction.cluster.ClusterTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bridges the per-node simple broker into a cluster-wide broadcast
+ * <p>
+ * Every encoded message is delivered to this node's subscribers and published once through the
+ * {@link ClusterTransport}; every other node relays it to its own subscribers. Both directions go through
+ * bounded queues ({@code auction.cluster.fanout.buffer-size}) drained by one thread each, so a slow Redis never
+ * blocks bid threads and per-item order is kept. On overflow the oldest message is dropped and counted.
+ * Envelopes already relayed (by message id) are ignored. Item events are also routed to the local sessions
+ * watching the item (see {@link InterestIndex}), and sequenced ones relayed from other nodes are handed to the
+ * registered {@link RelayedItemEventListener}s so this node can replay them.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ClusterBroadcastRelay {
+
+    private static final Pattern ITEM_DESTINATION = Pattern.compile("^/topic/item/(\\d+)/");
+    private static final Pattern WATCHED_DESTINATION = Pattern.compile("^/topic/item/(\\d+)/([a-z-]+)$");
+
+    SimpMessagingTemplate messagingTemplate;
+    ClusterTransport clusterTransport;
+    ShardOwnershipService shardOwnershipService;
+    InterestIndex interestIndex;
+    ItemEventStream itemEventStream;
+
+    BlockingQueue<ClusterEnvelope> outbound;
+    BlockingQueue<ClusterEnvelope> inbound;
+    Map<String, Boolean> recentlyRelayed;
+    AtomicLong messageSequence = new AtomicLong();
+    List<RelayedItemEventListener> relayedItemEventListeners = new CopyOnWriteArrayList<>();
+
+    Counter publishedCounter;
+    Counter relayedCounter;
+    Counter droppedCounter;
+    Counter duplicateCounter;
+
+    @NonFinal
+    volatile boolean running;
+
+    @NonFinal
+    Thread publisher;
+
+    @NonFinal
+    Thread relayer;
+
+    public ClusterBroadcastRelay(SimpMessagingTemplate messagingTemplate,
+                                 ClusterTransport clusterTransport,
+                                 ShardOwnershipService shardOwnershipService,
+                                 InterestIndex interestIndex,
+                                 ItemEventStream itemEventStream,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.cluster.fanout.buffer-size:10000}") int bufferSize,
+                                 @Value("${auction.cluster.fanout.dedupe-window:10000}") int dedupeWindow) {
+        this.messagingTemplate = messagingTemplate;
+        this.clusterTransport = clusterTransport;
+        this.shardOwnershipService = shardOwnershipService;
+        this.interestIndex = interestIndex;
+        this.itemEventStream = itemEventStream;
+        this.outbound = new ArrayBlockingQueue<>(bufferSize);
+        this.inbound = new ArrayBlockingQueue<>(bufferSize);
+        this.recentlyRelayed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupeWindow;
+            }
+        });
+        this.publishedCounter = Counter.builder("auction.cluster.fanout.published").register(meterRegistry);
+        this.relayedCounter = Counter.builder("auction.cluster.fanout.relayed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("auction.cluster.fanout.dropped").register(meterRegistry);
+        this.duplicateCounter = Counter.builder("auction.cluster.fanout.duplicates").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        clusterTransport.subscribe(this::receive);
+        publisher = startDrainer("cluster-fanout-publisher", outbound, envelope -> {
+            clusterTransport.publish(envelope);
+            publishedCounter.increment();
+        });
+        relayer = startDrainer("cluster-fanout-relay", inbound, envelope -> {
+            if (envelope.itemId() != null && envelope.sequence() != null) {
+                relayedItemEventListeners.forEach(listener -> listener.onRelayedItemEvent(
+                        envelope.itemId(), envelope.destinations().get(0), envelope.sequence(), envelope.body()));
+            }
+            deliverLocally(envelope.destinations(), envelope.body(), MimeType.valueOf(envelope.contentType()), envelope.sequence());
+            relayedCounter.increment();
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        publisher.interrupt();
+        relayer.interrupt();
+    }
+
+    public void addRelayedItemEventListener(RelayedItemEventListener listener) {
+        relayedItemEventListeners.add(listener);
+    }
+
+    /**
+     * Deliver to local subscribers now and queue the message for the other nodes
+     */
+    public void send(byte[] body, MimeType contentType, List<String> destinations) {
+        send(body, contentType, destinations, null);
+    }
+
+    /**
+     * @param sequence per-item feed sequence of an item event (see {@link ItemEventFeed}), null otherwise
+     */
+    public void send(byte[] body, MimeType contentType, List<String> destinations, Long sequence) {
+        deliverLocally(destinations, body, contentType, sequence);
+
+        ClusterEnvelope envelope = new ClusterEnvelope(
+                shardOwnershipService.getNodeId(),
+                shardOwnershipService.getNodeId() + ":" + messageSequence.incrementAndGet(),
+                itemIdOf(destinations.get(0)),
+                destinations,
+                contentType.toString(),
+                body,
+                sequence);
+        enqueue(outbound, envelope);
+    }
+
+    void receive(ClusterEnvelope envelope) {
+        if (shardOwnershipService.getNodeId().equals(envelope.originNodeId())) {
+            return;
+        }
+        if (recentlyRelayed.putIfAbsent(envelope.messageId(), Boolean.TRUE) != null) {
+            duplicateCounter.increment();
+            return;
+        }
+        enqueue(inbound, envelope);
+    }
+
+    private void deliverLocally(List<String> destinations, byte[] body, MimeType contentType, Long sequence) {
+        for (String destination : destinations) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(contentType);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(destination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+            deliverToWatchers(destination, body, contentType, sequence);
+        }
+    }
+
+    /**
+     * Item topic events also go to the sessions on this node watching the item, e.g. /topic/item/5/bids
+     * to /user/{sessionId}/queue/watch/bids - the session id as user name resolves to that session only -
+     * and to the SSE streams of the item
+     */
+    private void deliverToWatchers(String destination, byte[] body, MimeType contentType, Long sequence) {
+        Matcher matcher = WATCHED_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+        Long itemId = Long.valueOf(matcher.group(1));
+        itemEventStream.dispatch(itemId, matcher.group(2), sequence, body);
+
+        Set<String> sessionIds = interestIndex.sessionsWatching(itemId);
+        for (String sessionId : sessionIds) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(contentType);
+            accessor.setSessionId(sessionId);
+            accessor.setLeaveMutable(true);
+            String watchDestination = messagingTemplate.getUserDestinationPrefix() + sessionId + "/queue/watch/" + matcher.group(2);
+            messagingTemplate.send(watchDestination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+        }
+    }
+
+    private void enqueue(BlockingQueue<ClusterEnvelope> queue, ClusterEnvelope envelope) {
+        while (!queue.offer(envelope)) {
+            if (queue.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    private Thread startDrainer(String name, BlockingQueue<ClusterEnvelope> queue, Consumer<ClusterEnvelope> action) {
+        Thread thread = new Thread(() -> {
+            while (running) {
+                try {
+                    ClusterEnvelope envelope = queue.poll(1, TimeUnit.SECONDS);
+                    if (envelope != null) {
+                        action.accept(envelope);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("{} failed: {}", name, e.getMessage());
+                }
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static Long itemIdOf(String destination) {
+        Matcher matcher = ITEM_DESTINATION.matcher(destination);
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    /**
+     * Receives sequenced item events published by other nodes, before they are delivered to local subscribers
+     */
+    @FunctionalInterface
+    public interface RelayedItemEventListener {
+        void onRelayedItemEvent(Long itemId, String destination, long sequence, byte[] body);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ntn.auction.service;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local index of the items each STOMP session watches
+ * <p>
+ * Sessions register a watch set through {@code /app/watch}; {@link ClusterBroadcastRelay} looks up the sessions
+ * watching an item for every item event delivered on this node and sends it to their {@code /user/queue/watch/...}
+ * queues, so a watchlist page receives only its items instead of filtering the platform-wide feed.
+ * Entries are dropped when the session disconnects.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class InterestIndex {
+
+    Map<Long, Set<String>> sessionsByItem = new ConcurrentHashMap<>();
+    Map<String, Set<Long>> itemsBySession = new ConcurrentHashMap<>();
+
+    int maxItemsPerSession;
+
+    public InterestIndex(@Value("${auction.websocket.watch.max-items-per-session:200}") int maxItemsPerSession) {
+        this.maxItemsPerSession = maxItemsPerSession;
+    }
+
+    /**
+     * Add items to the session's watch set, ignoring those past the per-session limit
+     *
+     * @return the session's watch set after the change
+     */
+    public Set<Long> watch(String sessionId, Collection<Long> itemIds) {
+        Set<Long> watched = itemsBySession.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet());
+        for (Long itemId : itemIds) {
+            if (watched.size() >= maxItemsPerSession) {
+                log.debug("Session {} reached the watch limit of {} items", sessionId, maxItemsPerSession);
+                break;
+            }
+            if (itemId != null && watched.add(itemId)) {
+                sessionsByItem.compute(itemId, (id, sessions) -> {
+                    Set<String> target = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+                    target.add(sessionId);
+                    return target;
+                });
+            }
+        }
+        return Set.copyOf(watched);
+    }
+
+    public Set<Long> unwatch(String sessionId, Collection<Long> itemIds) {
+        Set<Long> watched = itemsBySession.get(sessionId);
+        if (watched == null) {
+            return Set.of();
+        }
+        for (Long itemId : itemIds) {
+            if (itemId != null && watched.remove(itemId)) {
+                removeSession(itemId, sessionId);
+            }
+        }
+        return Set.copyOf(watched);
+    }
+
+    public Set<String> sessionsWatching(Long itemId) {
+        return sessionsByItem.getOrDefault(itemId, Set.of());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Set<Long> watched = itemsBySession.remove(event.getSessionId());
+        if (watched != null) {
+            watched.forEach(itemId -> removeSession(itemId, event.getSessionId()));
+        }
+    }
+
+    private void removeSession(Long itemId, String sessionId) {
+        sessionsByItem.computeIfPresent(itemId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package com.ntn.auction.service;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.ntn.auction.dto.response.ItemFeedReplayResponse;
+import com.ntn.auction.feed.FeedEntry;
+import com.ntn.auction.feed.SequencedRingBuffer;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * Sequence-numbered per-item event feed with replay for reconnecting clients
+ * <p>
+ * Every event sent to an item topic ({@code /topic/item/{id}/...}) is stamped with a per-item sequence from a
+ * Redis counter and kept in a bounded ring buffer ({@code auction.feed.buffer-size} entries per item). A client
+ * that reconnects sends its last sequence to {@code /app/item/{id}/resume} and receives only the events it
+ * missed instead of re-fetching the whole bid history. Item events published by other nodes are buffered here too,
+ * with the sequence they carry, so a resume works against any node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemEventFeed {
+
+    StompBroadcastService stompBroadcastService;
+    RedisService redisService;
+    ClusterBroadcastRelay clusterBroadcastRelay;
+
+    Map<Long, ItemBuffer> buffers = new ConcurrentHashMap<>();
+
+    @NonFinal
+    @Value("${auction.feed.buffer-size:256}")
+    protected int bufferSize;
+
+    @NonFinal
+    @Value("${auction.feed.idle-eviction-minutes:30}")
+    protected long idleEvictionMinutes;
+
+    @PostConstruct
+    public void start() {
+        clusterBroadcastRelay.addRelayedItemEventListener(this::record);
+    }
+
+    /**
+     * Stamp, encode once and send an item event, keeping it for replay
+     *
+     * @param itemId         item the event belongs to
+     * @param destination    item topic the event is replayed for
+     * @param payloadFactory builds the payload carrying the given sequence
+     * @param alsoTo         further destinations sharing the encoded body (not replayed)
+     * @return the encoded payload, e.g. for user queues
+     */
+    public StompBroadcastService.EncodedPayload publish(Long itemId, String destination,
+                                                        LongFunction<Object> payloadFactory, String... alsoTo) {
+        ItemBuffer buffer = buffers.computeIfAbsent(itemId, id -> new ItemBuffer(new SequencedRingBuffer<>(bufferSize)));
+
+        // Per item, so sequence order is also send order on this node
+        synchronized (buffer) {
+            long sequence = nextSequence(itemId, buffer.ring().lastSequence());
+            Object payload = payloadFactory.apply(sequence);
+            StompBroadcastService.EncodedPayload encoded = stompBroadcastService.encode(payload);
+
+            buffer.ring().append(sequence, new FeedEntry(sequence, destination, payload));
+            buffer.touch();
+
+            String[] destinations = new String[alsoTo.length + 1];
+            destinations[0] = destination;
+            System.arraycopy(alsoTo, 0, destinations, 1, alsoTo.length);
+            stompBroadcastService.sendSequenced(encoded, sequence, destinations);
+            return encoded;
+        }
+    }
+
+    /**
+     * Keep an item event published by another node for replay
+     *
+     * @param body JSON as sent, replayed verbatim
+     */
+    public void record(Long itemId, String destination, long sequence, byte[] body) {
+        ItemBuffer buffer = buffers.computeIfAbsent(itemId, id -> new ItemBuffer(new SequencedRingBuffer<>(bufferSize)));
+        synchronized (buffer) {
+            if (sequence > buffer.ring().lastSequence()) {
+                buffer.ring().append(sequence, new FeedEntry(sequence, destination,
+                        new RawValue(new String(body, StandardCharsets.UTF_8))));
+            } else {
+                // Overtaken by a later event published here - replays from before it cannot be complete
+                buffer.ring().markMissing(sequence);
+            }
+            buffer.touch();
+        }
+    }
+
+    public ItemFeedReplayResponse replay(Long itemId, long afterSequence) {
+        ItemBuffer buffer = buffers.get(itemId);
+        if (buffer == null) {
+            // Nothing buffered on this node - only a client that has seen nothing yet is up to date
+            return ItemFeedReplayResponse.builder()
+                    .itemId(itemId)
+                    .afterSequence(afterSequence)
+                    .lastSequence(afterSequence)
+                    .complete(afterSequence == 0)
+                    .events(List.of())
+                    .build();
+        }
+
+        SequencedRingBuffer.Replay<FeedEntry> replay = buffer.ring().since(afterSequence);
+        log.debug("Replaying {} events of item {} after sequence {} (complete: {})",
+                replay.entries().size(), itemId, afterSequence, replay.complete());
+
+        return ItemFeedReplayResponse.builder()
+                .itemId(itemId)
+                .afterSequence(afterSequence)
+                .lastSequence(replay.lastSequence())
+                .complete(replay.complete())
+                .events(replay.entries())
+                .build();
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuffers() {
+        long cutoff = System.nanoTime() - Duration.ofMinutes(idleEvictionMinutes).toNanos();
+        buffers.entrySet().removeIf(entry -> entry.getValue().lastAppendNanos() - cutoff < 0);
+    }
+
+    private long nextSequence(Long itemId, long lastLocal) {
+        Long shared = redisService.incrementItemSequence(itemId);
+        // Never go backwards locally, even if the Redis counter was lost or unreachable
+        return shared != null ? Math.max(shared, lastLocal + 1) : lastLocal + 1;
+    }
+
+    private static final class ItemBuffer {
+        private final SequencedRingBuffer<FeedEntry> ring;
+        private volatile long lastAppendNanos = System.nanoTime();
+
+        ItemBuffer(SequencedRingBuffer<FeedEntry> ring) {
+            this.ring = ring;
+        }
+
+        SequencedRingBuffer<FeedEntry> ring() {
+            return ring;
+        }
+
+        long lastAppendNanos() {
+            return lastAppendNanos;
+        }
+
+        void touch() {
+            lastAppendNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.ntn.auction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ntn.auction.dto.response.ItemFeedReplayResponse;
+import com.ntn.auction.feed.FeedEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Read-only server-sent event streams of item events ({@code GET /items/{id}/stream})
+ * <p>
+ * Fed from the same delivery path as the STOMP item topics (see {@link ClusterBroadcastRelay}), with the JSON body
+ * encoded once per event and the per-item feed sequence as the SSE event id. Each stream is written by its own
+ * virtual thread from a bounded queue, so a slow reader only parks its own thread; a stream whose queue overflows
+ * is closed and the browser reconnects with {@code Last-Event-ID}, replaying the gap from {@link ItemEventFeed}.
+ * Idle streams get a comment line every {@code auction.sse.heartbeat-ms} to keep proxies from closing them.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemEventStream {
+
+    ObjectMapper objectMapper;
+    Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    Counter overflowCounter;
+
+    long timeoutMillis;
+    long heartbeatMillis;
+    int queueSize;
+
+    public ItemEventStream(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${auction.sse.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${auction.sse.heartbeat-ms:15000}") long heartbeatMillis,
+                           @Value("${auction.sse.queue-size:64}") int queueSize) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.queueSize = queueSize;
+        this.overflowCounter = Counter.builder("auction.sse.streams.overflowed")
+                .description("SSE streams closed because the reader fell behind")
+                .register(meterRegistry);
+        Gauge.builder("auction.sse.streams.open", subscribers, map -> map.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream of the item's events
+     *
+     * @param lastEventId last sequence the client received, null on a first connect
+     * @param replayer    returns the events buffered after a sequence, called once the stream receives live events
+     */
+    public SseEmitter subscribe(Long itemId, Long lastEventId, LongFunction<ItemFeedReplayResponse> replayer) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(itemId, emitter, new ArrayBlockingQueue<>(queueSize));
+
+        subscribers.compute(itemId, (id, streams) -> {
+            Set<Subscriber> target = streams != null ? streams : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        Thread.ofVirtual()
+                .name("sse-item-" + itemId)
+                .start(() -> run(subscriber, lastEventId, replayer));
+        return emitter;
+    }
+
+    /**
+     * Queue an item event for every stream of the item on this node
+     *
+     * @param kind     event name, the last segment of the item topic (bids, status, end...)
+     * @param sequence per-item feed sequence, sent as the event id
+     * @param body     JSON body as encoded for the STOMP topics
+     */
+    public void dispatch(Long itemId, String kind, Long sequence, byte[] body) {
+        Set<Subscriber> streams = subscribers.get(itemId);
+        if (streams == null || streams.isEmpty()) {
+            return;
+        }
+        Frame frame = new Frame(sequence, kind, new String(body, StandardCharsets.UTF_8));
+        for (Subscriber subscriber : streams) {
+            if (!subscriber.queue().offer(frame)) {
+                overflowCounter.increment();
+                remove(subscriber);
+            }
+        }
+    }
+
+    private void run(Subscriber subscriber, Long lastEventId, LongFunction<ItemFeedReplayResponse> replayer) {
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            long replayedUpTo = 0;
+            if (lastEventId != null) {
+                ItemFeedReplayResponse replay = replayer.apply(lastEventId);
+                if (!replay.isComplete()) {
+                    // Part of the gap is gone - the client reloads the item over REST
+                    emitter.send(SseEmitter.event().name("reset").data("{\"lastSequence\":" + replay.getLastSequence() + "}"));
+                }
+                for (FeedEntry entry : replay.getEvents()) {
+                    send(emitter, new Frame(entry.sequence(), kindOf(entry.destination()),
+                            objectMapper.writeValueAsString(entry.payload())));
+                }
+                replayedUpTo = replay.getLastSequence();
+            }
+
+            while (isOpen(subscriber)) {
+                Frame frame = subscriber.queue().poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if (frame == null) {
+                    emitter.send(SseEmitter.event().comment(""));
+                } else if (frame.sequence() == null || frame.sequence() > replayedUpTo) {
+                    send(emitter, frame);
+                }
+            }
+            emitter.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (Exception e) {
+            // Client went away mid-write
+            log.debug("SSE stream of item {} closed: {}", subscriber.itemId(), e.getMessage());
+            emitter.completeWithError(e);
+        } finally {
+            remove(subscriber);
+        }
+    }
+
+    private void send(SseEmitter emitter, Frame frame) throws IOException {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(frame.kind()).data(frame.data());
+        if (frame.sequence() != null) {
+            event.id(frame.sequence().toString());
+        }
+        emitter.send(event);
+    }
+
+    private boolean isOpen(Subscriber subscriber) {
+        Set<Subscriber> streams = subscribers.get(subscriber.itemId());
+        return streams != null && streams.contains(subscriber);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.itemId(), (id, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    private static String kindOf(String destination) {
+        return destination.substring(destination.lastIndexOf('/') + 1);
+    }
+
+    private record Frame(Long sequence, String kind, String data) {
+    }
+
+    private record Subscriber(Long itemId, SseEmitter emitter, BlockingQueue<Frame> queue) {
+    }
+}
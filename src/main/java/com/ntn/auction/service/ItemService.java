@@ -1,7 +1,12 @@
 package com.ntn.auction.service;
 
+import com.ntn.auction.dto.AuctionSchedule;
+import com.ntn.auction.dto.ItemCatalogCursor;
+import com.ntn.auction.dto.request.ItemCatalogQuery;
 import com.ntn.auction.dto.request.ItemCreateRequest;
+import com.ntn.auction.dto.response.CursorPage;
 import com.ntn.auction.dto.response.ItemResponse;
+import com.ntn.auction.dto.response.ItemSummaryResponse;
 import com.ntn.auction.entity.Category;
 import com.ntn.auction.entity.Item;
 import com.ntn.auction.entity.ItemImage;
@@ -17,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,8 +44,10 @@ public class ItemService {
     ItemMapper itemMapper;
     BidIncrementService bidIncrementService;
     ImagesStorageService imagesStorageService;
+    ApplicationEventPublisher eventPublisher;
 
     private static final String BASE_IMAGE_URL = "http://localhost:8080/api/v1/";
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
 
     private ItemResponse createItem(ItemCreateRequest request) {
         // Validate seller
@@ -87,6 +95,9 @@ public class ItemService {
         Item savedItem = itemRepository.save(item);
         log.info("Created new item with ID: {} for seller: {}", savedItem.getId(), seller.getId());
 
+        // Let the auction timer pick up starts that fall inside its already loaded horizon
+        eventPublisher.publishEvent(AuctionSchedule.of(savedItem));
+
         return itemMapper.mapToItemResponse(savedItem);
     }
 
@@ -119,25 +130,43 @@ public class ItemService {
         return itemResponse;
     }
 
-    public List<ItemResponse> getAll() {
-        List<Item> items = itemRepository.findAll();
-        return itemMapper.mapToItemResponseList(items);
+    /**
+     * One catalog page, keyset-paginated in the query's sort order
+     */
+    public CursorPage<ItemSummaryResponse> getCatalog(ItemCatalogQuery query) {
+        if (query.getSort() == null) {
+            query.setSort(ItemCatalogQuery.SortOrder.ENDING_SOON);
+        }
+        int limit = Math.max(1, Math.min(query.getLimit() != null ? query.getLimit() : 20, MAX_CATALOG_PAGE_SIZE));
+        ItemCatalogCursor after = ItemCatalogCursor.decode(query.getCursor(), query.getSort());
+
+        List<ItemSummaryResponse> rows = itemRepository.findCatalogPage(query, after, limit + 1);
+        return CursorPage.of(rows, limit, row -> new ItemCatalogCursor(query.getSort(), keyOf(row, query.getSort()), row.getId()).encode());
     }
 
+    @Transactional(readOnly = true)
     public ItemResponse getById(Long id) {
-        Item item = itemRepository.findById(id)
+        Item item = itemRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ItemNotFoundException("Item not found: " + id));
         return mapItemResponse(item);
     }
 
-    public List<ItemResponse> getItemsBySeller(String sellerId) {
-        List<Item> items = itemRepository.findBySellerIdOrderByAuctionStartDateDesc(sellerId);
-        return itemMapper.mapToItemResponseList(items);
+    public CursorPage<ItemSummaryResponse> getItemsBySeller(String sellerId, String cursor, Integer limit) {
+        return getCatalog(ItemCatalogQuery.builder()
+                .sellerId(sellerId)
+                .sort(ItemCatalogQuery.SortOrder.NEWEST)
+                .cursor(cursor)
+                .limit(limit)
+                .build());
     }
 
-    public List<ItemResponse> getItemsByCategory(Long categoryId) {
-        List<Item> items = itemRepository.findByCategoryIdAndStatusOrderByAuctionEndDateAsc(categoryId, Item.ItemStatus.ACTIVE);
-        return itemMapper.mapToItemResponseList(items);
+    public CursorPage<ItemSummaryResponse> getItemsByCategory(Long categoryId, String cursor, Integer limit) {
+        return getCatalog(ItemCatalogQuery.builder()
+                .categoryId(categoryId)
+                .status(Item.ItemStatus.ACTIVE)
+                .cursor(cursor)
+                .limit(limit)
+                .build());
     }
 
     @Transactional
@@ -147,21 +176,37 @@ public class ItemService {
 
         item.setStatus(status);
         itemRepository.save(item);
+        eventPublisher.publishEvent(AuctionSchedule.of(item));
 
         log.info("Updated item {} status to: {}", itemId, status);
     }
 
-    public List<ItemResponse> getActiveAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Item> activeItems = itemRepository.findActiveAuctions(now);
-        return itemMapper.mapToItemResponseList(activeItems);
+    public CursorPage<ItemSummaryResponse> getActiveAuctions(String cursor, Integer limit) {
+        return getCatalog(ItemCatalogQuery.builder()
+                .status(Item.ItemStatus.ACTIVE)
+                .endingAfter(LocalDateTime.now())
+                .cursor(cursor)
+                .limit(limit)
+                .build());
     }
 
-    public List<ItemResponse> getEndingSoonAuctions() {
+    public CursorPage<ItemSummaryResponse> getEndingSoonAuctions(String cursor, Integer limit) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime next24Hours = now.plusHours(24);
-        List<Item> endingSoonItems = itemRepository.findEndingSoonAuctions(now, next24Hours);
-        return itemMapper.mapToItemResponseList(endingSoonItems);
+        return getCatalog(ItemCatalogQuery.builder()
+                .status(Item.ItemStatus.ACTIVE)
+                .endingAfter(now)
+                .endingBefore(now.plusHours(24))
+                .cursor(cursor)
+                .limit(limit)
+                .build());
+    }
+
+    private static String keyOf(ItemSummaryResponse row, ItemCatalogQuery.SortOrder sort) {
+        return switch (sort) {
+            case ENDING_SOON -> row.getAuctionEndDate().toString();
+            case NEWEST -> row.getAuctionStartDate().toString();
+            case PRICE_ASC, PRICE_DESC -> row.getCurrentBidPrice().toPlainString();
+        };
     }
 
     private ItemResponse mapItemResponse(Item item) {
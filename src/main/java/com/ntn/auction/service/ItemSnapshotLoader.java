@@ -0,0 +1,84 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.repository.ItemRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through loader for item snapshots with single-flight DB loading
+ * Concurrent cache misses for the same item share one query: the first caller loads and caches the item,
+ * the others wait for its result instead of all hitting MySQL at once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemSnapshotLoader {
+
+    ItemRepository itemRepository;
+    RedisService redisService;
+    PlatformTransactionManager transactionManager;
+
+    Map<Long, CompletableFuture<Optional<Item>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Cached snapshot (local, then Redis), loading it from the DB on a miss
+     */
+    public Optional<Item> load(Long itemId) {
+        Item cached = redisService.getCachedItem(itemId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return reload(itemId);
+    }
+
+    /**
+     * Load the item from the DB and refresh both cache tiers, sharing the query with concurrent callers
+     */
+    public Optional<Item> reload(Long itemId) {
+        CompletableFuture<Optional<Item>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<Item>> existing = inFlight.putIfAbsent(itemId, flight);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            Optional<Item> item = loadDetached(itemId);
+            item.ifPresent(redisService::cacheItem);
+            flight.complete(item);
+            return item;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(itemId, flight);
+        }
+    }
+
+    // Own read-only transaction so the shared snapshot is detached rather than bound to the caller's session
+    private Optional<Item> loadDetached(Long itemId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        Optional<Item> item = template.execute(status -> itemRepository.findById(itemId));
+        log.debug("Loaded item {} snapshot from DB", itemId);
+        return item != null ? item : Optional.empty();
+    }
+}
@@ -1,11 +1,17 @@
 package com.ntn.auction.service;
 
+import com.ntn.auction.dto.KeysetCursor;
+import com.ntn.auction.dto.OutbidSummary;
+import com.ntn.auction.dto.event.UnreadNotificationsChangedEvent;
 import com.ntn.auction.dto.request.NotificationCreateRequest;
-import com.ntn.auction.dto.response.NotificationResponse;
+import com.ntn.auction.dto.response.CursorPage;
+import com.ntn.auction.dto.response.NotificationSummaryResponse;
 import com.ntn.auction.entity.Bid;
 import com.ntn.auction.entity.Item;
 import com.ntn.auction.entity.Notification;
 import com.ntn.auction.entity.User;
+import com.ntn.auction.exception.AppException;
+import com.ntn.auction.exception.ErrorCode;
 import com.ntn.auction.mapper.NotificationMapper;
 import com.ntn.auction.repository.BidRepository;
 import com.ntn.auction.repository.NotificationRepository;
@@ -13,10 +19,14 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -26,27 +36,64 @@ import java.util.List;
 @Slf4j
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     NotificationRepository notificationRepository;
     BidRepository bidRepository;
     NotificationMapper notificationMapper;
     WebSocketService webSocketService;
+    UnreadNotificationCounter unreadNotificationCounter;
+    ApplicationEventPublisher eventPublisher;
 
-    public List<NotificationResponse> getUserNotifications(String userId) {
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByNotificationDateDesc(userId);
-        return notificationMapper.toResponseList(notifications);
+    /**
+     * One page of the user's inbox, newest first
+     *
+     * @param cursor {@code nextCursor} of the previous page, null for the first one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationSummaryResponse> getUserNotifications(String userId, String cursor, int limit) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = pageSize(limit);
+        return page(notificationRepository.findInboxPage(userId, after.getTimestamp(), after.getId(),
+                PageRequest.of(0, size + 1)), size);
     }
 
-    public List<NotificationResponse> getUnreadNotifications(String userId) {
-        List<Notification> unreadNotifications = notificationRepository
-                .findByUserIdAndReadFalseOrderByNotificationDateDesc(userId);
-        return notificationMapper.toResponseList(unreadNotifications);
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationSummaryResponse> getUnreadNotifications(String userId, String cursor, int limit) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = pageSize(limit);
+        return page(notificationRepository.findUnreadInboxPage(userId, after.getTimestamp(), after.getId(),
+                PageRequest.of(0, size + 1)), size);
     }
 
+    @Transactional(readOnly = true)
     public Integer getUnreadCount(String userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return Math.toIntExact(unreadNotificationCounter.get(userId));
+    }
+
+    public void markAsRead(Long notificationId) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOTIFICATION_NOT_FOUND));
+        if (notificationRepository.markAsRead(notificationId) > 0) {
+            unreadChanged(notification.getUser().getId(), -1);
+        }
+    }
+
+    /**
+     * Mark the given notifications of the user as read in a single UPDATE; ids of other users are ignored
+     */
+    public void markAsRead(String userId, Collection<Long> notificationIds) {
+        unreadChanged(userId, -notificationRepository.markAsRead(userId, notificationIds));
+    }
+
+    public void markAllAsRead(String userId) {
+        unreadChanged(userId, -notificationRepository.markAllAsRead(userId));
     }
 
-    public void createNotifications(Item item, User winner) {
+    /**
+     * Seller and winner notifications of a sold item, persisted later by {@link NotificationWriter}
+     */
+    public List<NotificationCreateRequest> soldNotifications(Item item, User winner) {
         // Notification cho seller
         NotificationCreateRequest sellerRequest = NotificationCreateRequest.builder()
                 .message(String.format("Your product '%s' was successfully sold for price %s",
@@ -63,17 +110,10 @@ public class NotificationService {
                 .itemId(item.getId())
                 .build();
 
-        Notification sellerNotification = notificationMapper.toEntity(sellerRequest);
-        Notification winnerNotification = notificationMapper.toEntity(winnerRequest);
-
-        notificationRepository.saveAll(Arrays.asList(sellerNotification, winnerNotification));
-        
-        // Send WebSocket notifications via WebSocketService
-        webSocketService.sendUserNotification(item.getSeller().getId(), sellerNotification);
-        webSocketService.sendUserNotification(winner.getId(), winnerNotification);
+        return List.of(sellerRequest, winnerRequest);
     }
 
-    public void createExpiredNotification(Item item) {
+    public List<NotificationCreateRequest> expiredNotifications(Item item) {
         NotificationCreateRequest expiredRequest = NotificationCreateRequest.builder()
                 .message(String.format("Your product '%s' has expired without a buyer",
                         item.getName()))
@@ -81,27 +121,90 @@ public class NotificationService {
                 .itemId(item.getId())
                 .build();
 
-        Notification expiredNotification = notificationMapper.toEntity(expiredRequest);
-        notificationRepository.save(expiredNotification);
-        
-        // Send WebSocket notification via WebSocketService
-        webSocketService.sendUserNotification(item.getSeller().getId(), expiredNotification);
+        return List.of(expiredRequest);
+    }
+
+    /**
+     * Insert notifications in one JDBC batch, in the order given
+     * Delivery is separate (see {@link #publishNotifications(List)}) so it never runs inside the writing transaction
+     */
+    public List<Notification> createAll(List<NotificationCreateRequest> requests) {
+        List<Notification> notifications = notificationRepository.saveAll(requests.stream()
+                .map(notificationMapper::toEntity)
+                .toList());
+        notifications.forEach(notification -> unreadChanged(notification.getUser().getId(), 1));
+        return notifications;
     }
 
+    /**
+     * Write one outbid notification per summary, updating the user's unread one for the item in place
+     * Only a newly inserted row adds to the unread count; an updated row moves back to the top of the inbox.
+     *
+     * @return the inserted or updated notifications, in the order of the summaries
+     */
+    public List<Notification> upsertOutbid(Collection<OutbidSummary> summaries) {
+        List<Notification> notifications = new ArrayList<>(summaries.size());
+        for (OutbidSummary summary : summaries) {
+            String message = summary.getOutbidCount() > 1
+                    ? String.format("You've been outbid %d times on '%s', current price %s",
+                            summary.getOutbidCount(), summary.getItemName(), summary.getCurrentPrice())
+                    : String.format("You've been outbid on '%s', current price %s",
+                            summary.getItemName(), summary.getCurrentPrice());
+
+            Notification notification = notificationRepository
+                    .findFirstByUserIdAndItemIdAndTypeAndReadFalseOrderByNotificationDateDesc(
+                            summary.getUserId(), summary.getItemId(), Notification.NotificationType.OUTBID)
+                    .orElse(null);
+            if (notification != null) {
+                notification.setMessage(message);
+                notification.setNotificationDate(LocalDateTime.now());
+            } else {
+                notification = notificationMapper.toEntity(NotificationCreateRequest.builder()
+                        .message(message)
+                        .userId(summary.getUserId())
+                        .itemId(summary.getItemId())
+                        .build());
+                notification.setType(Notification.NotificationType.OUTBID);
+                unreadChanged(summary.getUserId(), 1);
+            }
+            notifications.add(notification);
+        }
+        return notificationRepository.saveAll(notifications);
+    }
+
+    /**
+     * Deliver already persisted notifications to their users over WebSocket
+     */
+    public void publishNotifications(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            webSocketService.sendUserNotification(notification.getUser().getId(), notification);
+        }
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static CursorPage<NotificationSummaryResponse> page(List<NotificationSummaryResponse> rows, int size) {
+        return CursorPage.of(rows, size,
+                row -> new KeysetCursor(row.getNotificationDate(), row.getId()).encode());
+    }
+
+    // Applied to the cached counter once the transaction commits
+    private void unreadChanged(String userId, long delta) {
+        eventPublisher.publishEvent(new UnreadNotificationsChangedEvent(userId, delta));
+    }
+
+    /**
+     * Broadcast the end of an auction
+     * Only sends - the notifications themselves are created once by the settlement NOTIFY step
+     */
     public void sendAuctionEndNotification(Item item, Bid winningBid) {
         Long totalBids = bidRepository.countByItemId(item.getId());
-        
-        // Create notifications in database for seller and winner
-        if (winningBid != null) {
-            User winner = winningBid.getBuyer();
-            createNotifications(item, winner);
-        } else {
-            createExpiredNotification(item);
-        }
-        
+
         // Send real-time WebSocket notifications
         webSocketService.sendAuctionEndNotification(item, winningBid);
-        
+
         log.info("Sent auction end notification for item {} with {} total bids", item.getId(), totalBids);
     }
 }
@@ -0,0 +1,146 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.PendingNotificationsEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched writer of settlement notifications
+ * <p>
+ * Settlement NOTIFY steps queue their notifications here after committing, and a single writer thread inserts up
+ * to {@code auction.notifications.writer.batch-size} settlements' worth per transaction as one JDBC batch, then
+ * resumes each settlement from PUBLISH. Closing an auction therefore no longer waits on notification inserts.
+ * <p>
+ * The queue is bounded and not itself durable: the settlement row stays on NOTIFY until the batch commits, so a
+ * handoff dropped on a full queue or lost in a crash is redone by the settlement resumer after its stall timeout.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class NotificationWriter {
+
+    AuctionSettlementSteps auctionSettlementSteps;
+    AuctionSettlementService auctionSettlementService;
+    BlockingQueue<PendingNotificationsEvent> queue;
+
+    Counter rejectedCounter;
+    Counter failedCounter;
+    DistributionSummary batchSizes;
+
+    int batchSize;
+    long lingerMillis;
+
+    @NonFinal
+    volatile boolean running;
+
+    @NonFinal
+    Thread writer;
+
+    public NotificationWriter(AuctionSettlementSteps auctionSettlementSteps,
+                              AuctionSettlementService auctionSettlementService,
+                              MeterRegistry meterRegistry,
+                              @Value("${auction.notifications.writer.queue-capacity:10000}") int queueCapacity,
+                              @Value("${auction.notifications.writer.batch-size:100}") int batchSize,
+                              @Value("${auction.notifications.writer.linger-ms:50}") long lingerMillis) {
+        this.auctionSettlementSteps = auctionSettlementSteps;
+        this.auctionSettlementService = auctionSettlementService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.rejectedCounter = Counter.builder("auction.notifications.writer.rejected")
+                .description("Handoffs dropped on a full queue, redone by the settlement resumer")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("auction.notifications.writer.failed").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("auction.notifications.writer.batch_size").register(meterRegistry);
+        Gauge.builder("auction.notifications.writer.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "notification-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        writer.interrupt();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPendingNotifications(PendingNotificationsEvent event) {
+        if (!queue.offer(event)) {
+            rejectedCounter.increment();
+            log.warn("Notification queue full, settlement of item {} is retried by the resumer", event.getItemId());
+        }
+    }
+
+    private void run() {
+        List<PendingNotificationsEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingNotificationsEvent first = queue.take();
+                batch.add(first);
+                // Give concurrent closings a moment to join the batch
+                if (lingerMillis > 0 && queue.size() < batchSize - 1) {
+                    Thread.sleep(lingerMillis);
+                }
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Notification writer error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingNotificationsEvent> batch) {
+        batchSizes.record(batch.size());
+        List<Long> advancedItemIds;
+        try {
+            advancedItemIds = auctionSettlementSteps.completeNotify(batch);
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                log.error("Failed to write notifications of item {}, left to the resumer: {}",
+                        batch.get(0).getItemId(), e.getMessage());
+                return;
+            }
+            // One bad settlement must not hold back the rest of the batch
+            log.warn("Notification batch of {} settlements failed, writing them one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> write(List.of(pending)));
+            return;
+        }
+
+        for (Long itemId : advancedItemIds) {
+            try {
+                auctionSettlementService.advance(itemId);
+            } catch (Exception e) {
+                log.error("Failed to resume settlement of item {} after notifying: {}", itemId, e.getMessage());
+            }
+        }
+    }
+}
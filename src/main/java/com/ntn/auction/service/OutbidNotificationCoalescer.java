@@ -0,0 +1,151 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.OutbidSummary;
+import com.ntn.auction.dto.event.OutbidDigestEvent;
+import com.ntn.auction.dto.event.OutbidEvent;
+import com.ntn.auction.entity.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalescing stage for outbid notifications
+ * <p>
+ * Outbid events are collected per (user, item) on this node, once the bid that caused them has committed
+ * ({@link OutbidEvent}). In {@code coalesce} mode a key is flushed
+ * {@code auction.notifications.outbid.window-ms} after its first event, as a single "you've been outbid, current
+ * price X" notification that updates the user's unread outbid row for the item instead of inserting a new one, and
+ * is pushed once. In {@code digest} mode everything collected is flushed every
+ * {@code auction.notifications.outbid.digest-interval-ms} the same way, with one digest push per user instead of one
+ * push per item. Either way a bidding war costs at most one row write and one push per user and item per window.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class OutbidNotificationCoalescer {
+
+    private static final String DIGEST_DESTINATION = "/queue/notifications/digest";
+
+    NotificationService notificationService;
+    WebSocketService webSocketService;
+    StompBroadcastService stompBroadcastService;
+
+    Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    Counter receivedCounter;
+    Counter writtenCounter;
+
+    boolean digest;
+    long windowMillis;
+    long digestIntervalMillis;
+
+    @NonFinal
+    volatile long lastDigestAt = System.currentTimeMillis();
+
+    public OutbidNotificationCoalescer(NotificationService notificationService,
+                                       WebSocketService webSocketService,
+                                       StompBroadcastService stompBroadcastService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${auction.notifications.outbid.mode:coalesce}") String mode,
+                                       @Value("${auction.notifications.outbid.window-ms:10000}") long windowMillis,
+                                       @Value("${auction.notifications.outbid.digest-interval-ms:900000}") long digestIntervalMillis) {
+        this.notificationService = notificationService;
+        this.webSocketService = webSocketService;
+        this.stompBroadcastService = stompBroadcastService;
+        this.digest = "digest".equalsIgnoreCase(mode);
+        this.windowMillis = windowMillis;
+        this.digestIntervalMillis = digestIntervalMillis;
+        this.receivedCounter = Counter.builder("auction.notifications.outbid.received").register(meterRegistry);
+        this.writtenCounter = Counter.builder("auction.notifications.outbid.written").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutbid(OutbidEvent event) {
+        outbid(event.getUserId(), event.getItemId(), event.getItemName(), event.getCurrentPrice());
+    }
+
+    /**
+     * Record that the user's bid on the item was beaten
+     *
+     * @param currentPrice price of the bid that beat it
+     */
+    public void outbid(String userId, Long itemId, String itemName, BigDecimal currentPrice) {
+        if (userId == null || itemId == null || currentPrice == null) {
+            return;
+        }
+        receivedCounter.increment();
+        pending.merge(new Key(userId, itemId), new Pending(itemName, currentPrice, 1, System.currentTimeMillis()),
+                (existing, update) -> new Pending(itemName,
+                        existing.currentPrice().max(currentPrice),
+                        existing.count() + 1,
+                        existing.firstAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${auction.notifications.outbid.tick-ms:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        if (digest && now - lastDigestAt < digestIntervalMillis) {
+            return;
+        }
+        lastDigestAt = now;
+
+        List<OutbidSummary> due = new ArrayList<>();
+        for (Key key : List.copyOf(pending.keySet())) {
+            Pending entry = pending.get(key);
+            if (entry != null && (digest || now - entry.firstAt() >= windowMillis) && pending.remove(key, entry)) {
+                due.add(new OutbidSummary(key.userId(), key.itemId(), entry.itemName(), entry.currentPrice(), entry.count()));
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<Notification> written;
+        try {
+            written = notificationService.upsertOutbid(due);
+            writtenCounter.increment(written.size());
+        } catch (Exception e) {
+            // Dropped rather than retried - a later outbid on the item writes the current price anyway
+            log.error("Failed to write {} outbid notifications: {}", due.size(), e.getMessage());
+            return;
+        }
+
+        if (digest) {
+            Map<String, List<OutbidSummary>> byUser = new LinkedHashMap<>();
+            due.forEach(summary -> byUser.computeIfAbsent(summary.getUserId(), id -> new ArrayList<>()).add(summary));
+            byUser.forEach(this::pushDigest);
+        } else {
+            for (int i = 0; i < written.size(); i++) {
+                webSocketService.sendUserNotification(due.get(i).getUserId(), written.get(i));
+            }
+        }
+    }
+
+    private void pushDigest(String userId, List<OutbidSummary> items) {
+        try {
+            stompBroadcastService.sendToUser(userId, DIGEST_DESTINATION, new OutbidDigestEvent(items, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("Failed to push outbid digest to user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private record Key(String userId, Long itemId) {
+    }
+
+    private record Pending(String itemName, BigDecimal currentPrice, int count, long firstAt) {
+    }
+}
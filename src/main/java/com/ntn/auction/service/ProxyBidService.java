@@ -1,5 +1,6 @@
 package com.ntn.auction.service;
 
+import com.ntn.auction.dto.event.OutbidEvent;
 import com.ntn.auction.entity.Bid;
 import com.ntn.auction.entity.Item;
 import com.ntn.auction.entity.ProxyBid;
@@ -14,6 +15,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,8 @@ public class ProxyBidService {
     UserRepository userRepository;
     RedisService redisService;
     WebSocketService webSocketService;
+    ReserveService reserveService;
+    ApplicationEventPublisher eventPublisher;
 
     /**
      * Process proxy bids after a manual bid is placed
@@ -281,6 +285,9 @@ public class ProxyBidService {
                     context.user().getId(), context.item().getId(), context.maxAmount());
         }
 
+        // Keep a preloaded proxy index complete (no-op when the item was not warmed up)
+        redisService.addToProxyIndex(context.item().getId(), context.user().getId(), context.maxAmount());
+
         return proxyBid;
     }
 
@@ -371,14 +378,11 @@ public class ProxyBidService {
                 competitor.setWinning(false);
                 proxyBidRepository.save(competitor);
 
-                // Send notification to outbid users for immediate feedback
-                try {
-                    log.info("Proxy bid outbid by competition: User {} on item {} - max amount was {}",
-                            competitor.getUser().getId(), item.getId(), competitor.getMaxAmount());
-                } catch (Exception e) {
-                    log.error("Failed to log competitive proxy bid outcome for user {}: {}",
-                            competitor.getUser().getId(), e.getMessage());
-                }
+                // Coalesced with the user's other outbid events on the item
+                log.info("Proxy bid outbid by competition: User {} on item {} - max amount was {}",
+                        competitor.getUser().getId(), item.getId(), competitor.getMaxAmount());
+                eventPublisher.publishEvent(new OutbidEvent(competitor.getUser().getId(), item.getId(), item.getName(),
+                        finalAmount.max(currentAmount)));
             }
 
             log.info("Processed {} competing proxy bids for item {} - all outbid by winning proxy",
@@ -420,6 +424,7 @@ public class ProxyBidService {
             // Update item current price
             item.setCurrentBidPrice(bidAmount);
             itemRepository.save(item);
+            reserveService.markReserveMetIfReached(item, bidAmount);
 
             // === REAL-TIME SYNCHRONIZATION ===
 
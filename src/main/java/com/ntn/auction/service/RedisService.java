@@ -5,15 +5,22 @@ import com.ntn.auction.entity.Item;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +36,34 @@ public class RedisService {
     private static final String BID_COUNT_PREFIX = "bid_count:";
     private static final String ITEM_CACHE_PREFIX = "item:";
     private static final String ITEM_MIN_INCREMENT_PREFIX = "item_min_increment:";
+    private static final String ITEM_STATE_PREFIX = "item_state:";
+    private static final String ITEM_BID_TOTAL_PREFIX = "item_bid_total:";
+    private static final String PROXY_INDEX_PREFIX = "proxy_index:";
+    private static final String ITEM_SEQUENCE_PREFIX = "item_seq:";
+    private static final String ITEM_WATCHERS_PREFIX = "item_watchers:";
+    private static final String UNREAD_NOTIFICATIONS_PREFIX = "notifications_unread:";
+
+    // Marks a proxy index as complete, so an index with no bidders is distinguishable from a missing one
+    private static final String PROXY_INDEX_MARKER = "*";
+
+    // Only add to an index that was fully loaded - a partial index would hide proxy bidders
+    private static final RedisScript<Long> PROXY_INDEX_ADD_SCRIPT = RedisScript.of(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "return redis.call('zadd', KEYS[1], ARGV[1], ARGV[2]) else return 0 end", Long.class);
+
+    // Only adjust a counter that was seeded from the database - a bare counter would start from the delta
+    private static final RedisScript<Long> UNREAD_ADJUST_SCRIPT = RedisScript.of(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "local count = redis.call('incrby', KEYS[1], ARGV[1]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[2]) return count else return nil end", Long.class);
+
+    // Node-local tier in front of the Redis item snapshot; the short TTL bounds staleness from other nodes' writes.
+    // Holds private copies handed out as copies, so callers mutating their item never change what others read
+    Map<Long, LocalItem> localItems = new ConcurrentHashMap<>();
+
+    @NonFinal
+    @Value("${auction.warmup.local-ttl-ms:1000}")
+    protected long localItemTtlMillis;
 
     public boolean acquireLock(String lockKey, String lockValue, Duration expiration) {
         try {
@@ -88,8 +123,8 @@ public class RedisService {
                 Duration.ofHours(24)
             );
 
-            // Cache item details
-            String itemKey = "item:" + item.getId();
+            // Cache item details - separate key space from the item snapshot stored under "item:"
+            String itemKey = ITEM_STATE_PREFIX + item.getId();
             redisTemplate.opsForHash().put(itemKey, "currentBidPrice", item.getCurrentBidPrice().toString());
             redisTemplate.opsForHash().put(itemKey, "minIncreasePrice", item.getMinIncreasePrice().toString());
             redisTemplate.opsForHash().put(itemKey, "status", item.getStatus().toString());
@@ -189,6 +224,7 @@ public class RedisService {
     public void cacheItem(Item item) {
         try {
             String key = ITEM_CACHE_PREFIX + item.getId();
+            localItems.put(item.getId(), new LocalItem(snapshotOf(item), System.nanoTime() + Duration.ofMillis(localItemTtlMillis).toNanos()));
             redisTemplate.opsForValue().set(key, item, Duration.ofMinutes(30));
             log.debug("Cached item {} for fast access", item.getId());
         } catch (Exception e) {
@@ -197,15 +233,47 @@ public class RedisService {
     }
 
     public Item getCachedItem(Long itemId) {
+        LocalItem local = localItems.get(itemId);
+        if (local != null && System.nanoTime() - local.expiresAtNanos() < 0) {
+            return snapshotOf(local.item());
+        }
         try {
             String key = ITEM_CACHE_PREFIX + itemId;
-            return (Item) redisTemplate.opsForValue().get(key);
+            Item item = (Item) redisTemplate.opsForValue().get(key);
+            if (item != null) {
+                localItems.put(itemId, new LocalItem(snapshotOf(item), System.nanoTime() + Duration.ofMillis(localItemTtlMillis).toNanos()));
+            } else {
+                localItems.remove(itemId);
+            }
+            return item;
         } catch (Exception e) {
             log.error("Failed to get cached item {}: {}", itemId, e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Drop expired node-local snapshots, they are otherwise only replaced when their item is read again
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredLocalItems() {
+        long now = System.nanoTime();
+        localItems.values().removeIf(local -> now - local.expiresAtNanos() >= 0);
+    }
+
+    /**
+     * Drop the cached item snapshot so the next read reloads status and dates from the DB
+     */
+    public void evictCachedItem(Long itemId) {
+        localItems.remove(itemId);
+        try {
+            redisTemplate.delete(ITEM_CACHE_PREFIX + itemId);
+            log.debug("Evicted cached item {}", itemId);
+        } catch (Exception e) {
+            log.error("Failed to evict cached item {}: {}", itemId, e.getMessage());
+        }
+    }
+
     public void cacheBidInfo(Long bidId, String buyerId, Long itemId, BigDecimal amount) {
         try {
             String key = BID_INFO_PREFIX + bidId;
@@ -233,6 +301,167 @@ public class RedisService {
         }
     }
 
+    public void setItemBidTotal(Long itemId, long total) {
+        try {
+            redisTemplate.opsForValue().set(ITEM_BID_TOTAL_PREFIX + itemId, total, Duration.ofHours(24));
+        } catch (Exception e) {
+            log.error("Failed to set bid total for item {}: {}", itemId, e.getMessage());
+        }
+    }
+
+    public void incrementItemBidTotal(Long itemId) {
+        try {
+            // Only count on top of a preloaded total, a bare counter would under-report
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(ITEM_BID_TOTAL_PREFIX + itemId))) {
+                redisTemplate.opsForValue().increment(ITEM_BID_TOTAL_PREFIX + itemId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to increment bid total for item {}: {}", itemId, e.getMessage());
+        }
+    }
+
+    public Long getItemBidTotal(Long itemId) {
+        try {
+            Object value = redisTemplate.opsForValue().get(ITEM_BID_TOTAL_PREFIX + itemId);
+            return value instanceof Number number ? number.longValue() : null;
+        } catch (Exception e) {
+            log.error("Failed to get bid total for item {}: {}", itemId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replace the proxy index of an item: a sorted set of proxy bidders scored by their max amount
+     */
+    public void cacheProxyIndex(Long itemId, Map<String, BigDecimal> maxAmountByUser) {
+        String key = PROXY_INDEX_PREFIX + itemId;
+        try {
+            redisTemplate.delete(key);
+            maxAmountByUser.forEach((userId, maxAmount) ->
+                    redisTemplate.opsForZSet().add(key, userId, maxAmount.doubleValue()));
+            redisTemplate.opsForZSet().add(key, PROXY_INDEX_MARKER, 0);
+            redisTemplate.expire(key, Duration.ofHours(24));
+        } catch (Exception e) {
+            log.error("Failed to cache proxy index for item {}: {}", itemId, e.getMessage());
+            delete(key);
+        }
+    }
+
+    public void addToProxyIndex(Long itemId, String userId, BigDecimal maxAmount) {
+        String key = PROXY_INDEX_PREFIX + itemId;
+        try {
+            redisTemplate.execute(PROXY_INDEX_ADD_SCRIPT, Collections.singletonList(key), maxAmount.doubleValue(), userId);
+        } catch (Exception e) {
+            log.error("Failed to add user {} to proxy index of item {}: {}", userId, itemId, e.getMessage());
+            delete(key);
+        }
+    }
+
+    /**
+     * Whether any user other than the given one holds a proxy bid on the item
+     *
+     * @return null if the index is not loaded
+     */
+    public Boolean hasOtherProxyBidders(Long itemId, String excludeUserId) {
+        try {
+            Set<Object> members = redisTemplate.opsForZSet().range(PROXY_INDEX_PREFIX + itemId, 0, -1);
+            if (members == null || !members.contains(PROXY_INDEX_MARKER)) {
+                return null;
+            }
+            return members.stream().anyMatch(member -> !PROXY_INDEX_MARKER.equals(member) && !member.equals(excludeUserId));
+        } catch (Exception e) {
+            log.error("Failed to read proxy index of item {}: {}", itemId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Next per-item event sequence, shared by all nodes
+     *
+     * @return null if Redis is unavailable
+     */
+    public Long incrementItemSequence(Long itemId) {
+        try {
+            Long sequence = redisTemplate.opsForValue().increment(ITEM_SEQUENCE_PREFIX + itemId);
+            if (sequence != null && sequence == 1) {
+                redisTemplate.expire(ITEM_SEQUENCE_PREFIX + itemId, Duration.ofDays(7));
+            }
+            return sequence;
+        } catch (Exception e) {
+            log.error("Failed to increment event sequence for item {}: {}", itemId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Add watcher ids to the item's HyperLogLog of one time window
+     */
+    public void addItemWatchers(Long itemId, long window, Collection<String> watcherIds, Duration ttl) {
+        String key = ITEM_WATCHERS_PREFIX + itemId + ":" + window;
+        try {
+            redisTemplate.opsForHyperLogLog().add(key, watcherIds.toArray());
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.error("Failed to record watchers of item {}: {}", itemId, e.getMessage());
+        }
+    }
+
+    /**
+     * Estimated distinct watchers of an item over the given windows, merged by PFCOUNT
+     *
+     * @return null if Redis is unavailable
+     */
+    public Long countItemWatchers(Long itemId, long... windows) {
+        try {
+            String[] keys = new String[windows.length];
+            for (int i = 0; i < windows.length; i++) {
+                keys[i] = ITEM_WATCHERS_PREFIX + itemId + ":" + windows[i];
+            }
+            return redisTemplate.opsForHyperLogLog().size(keys);
+        } catch (Exception e) {
+            log.error("Failed to count watchers of item {}: {}", itemId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Cached unread notification count of a user
+     *
+     * @return null if not cached or Redis is unavailable
+     */
+    public Long getUnreadNotifications(String userId) {
+        try {
+            Object value = redisTemplate.opsForValue().get(UNREAD_NOTIFICATIONS_PREFIX + userId);
+            return value instanceof Number number ? number.longValue() : null;
+        } catch (Exception e) {
+            log.error("Failed to get unread notifications of user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void setUnreadNotifications(String userId, long count, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(UNREAD_NOTIFICATIONS_PREFIX + userId, count, ttl);
+        } catch (Exception e) {
+            log.error("Failed to set unread notifications of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Atomically add to a cached unread count and extend its TTL
+     *
+     * @return the new count, null if the counter is not cached or Redis is unavailable
+     */
+    public Long adjustUnreadNotifications(String userId, long delta, Duration ttl) {
+        try {
+            return redisTemplate.execute(UNREAD_ADJUST_SCRIPT,
+                    Collections.singletonList(UNREAD_NOTIFICATIONS_PREFIX + userId), delta, ttl.toMillis());
+        } catch (Exception e) {
+            log.error("Failed to adjust unread notifications of user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
     public void incrementBidCount(String buyerId, Long itemId) {
         try {
             String key = BID_COUNT_PREFIX + buyerId + ":" + itemId;
@@ -288,4 +517,12 @@ public class RedisService {
             log.error("Failed to set current bid for item {}: {}", itemId, e.getMessage());
         }
     }
+
+    // Detached copy of the item's own columns; category and seller stay as references for their ids
+    private static Item snapshotOf(Item item) {
+        return item.toBuilder().images(null).build();
+    }
+
+    private record LocalItem(Item item, long expiresAtNanos) {
+    }
 }
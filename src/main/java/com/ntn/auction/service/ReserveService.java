@@ -0,0 +1,89 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.ReserveMetEvent;
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.repository.ItemRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+
+/**
+ * Keeps {@link Item#getReserveMet()} up to date as bids are accepted
+ * Each accepted bid costs one comparison against the item snapshot; only the first bid reaching the reserve
+ * writes, through a compare-and-set on the flag, so exactly one "reserve met" update is pushed per item.
+ * The flag is written in the transaction that persists the bid, so a rejected bid never leaves it set.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReserveService {
+
+    ItemRepository itemRepository;
+    RedisService redisService;
+    WebSocketService webSocketService;
+    ApplicationEventPublisher eventPublisher;
+
+    @NonFinal
+    @Value("${auction.reserve-price.enabled:true}")
+    protected boolean reservePriceEnabled;
+
+    /**
+     * Flip the reserve flag if the accepted bid reaches the reserve price
+     * Call it from the transaction that persists the bid. On success the given item is updated in place; once the
+     * transaction commits the cached copy is refreshed and a status update pushed to {@code /topic/item/{id}/status}.
+     *
+     * @param item      item the bid was accepted on
+     * @param bidAmount accepted amount
+     * @return true if this bid met the reserve
+     */
+    @Transactional
+    public boolean markReserveMetIfReached(Item item, BigDecimal bidAmount) {
+        if (!hasReserve(item) || Boolean.TRUE.equals(item.getReserveMet())
+            || bidAmount.compareTo(item.getReservePrice()) < 0) {
+            return false;
+        }
+
+        if (itemRepository.markReserveMet(item.getId()) == 0) {
+            // Another bid already met it - just fix the stale snapshot
+            item.setReserveMet(true);
+            return false;
+        }
+
+        item.setReserveMet(true);
+        // Cached and pushed only once committed, so clients never see a flag that is rolled back
+        eventPublisher.publishEvent(new ReserveMetEvent(item.toBuilder().images(null).build()));
+
+        log.info("Reserve price {} met on item {} by bid {}", item.getReservePrice(), item.getId(), bidAmount);
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReserveMet(ReserveMetEvent event) {
+        Item item = event.getItem();
+        redisService.cacheItem(item);
+        webSocketService.sendAuctionStatusUpdate(item, "RESERVE_MET", "Reserve price has been met");
+    }
+
+    /**
+     * Whether the top bid may win at close - compared with the reserve directly, no bid scan
+     */
+    public boolean isReserveSatisfied(Item item, BigDecimal topBidAmount) {
+        return !hasReserve(item) || topBidAmount.compareTo(item.getReservePrice()) >= 0;
+    }
+
+    private boolean hasReserve(Item item) {
+        return reservePriceEnabled
+               && item.getReservePrice() != null
+               && item.getReservePrice().signum() > 0;
+    }
+}
@@ -0,0 +1,229 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.ShardOwnershipChangedEvent;
+import com.ntn.auction.entity.ShardFence;
+import com.ntn.auction.repository.ShardFenceRepository;
+import com.ntn.auction.scheduling.ShardAssignment;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Splits auction items across API nodes with Redis leases
+ * <p>
+ * Items hash into {@code auction.cluster.shards} shards. Every node heartbeats into a sorted set of live nodes,
+ * computes the rendezvous owner of each shard and holds a PX lease per shard it owns. Each lease acquisition
+ * increments a per-shard fencing token, which is written to the database ({@link ShardFence}) before the node
+ * acts on the shard. {@link #leaseToken(Long)} checks the lease with Redis right before a close (failing closed
+ * when Redis cannot be reached) and the closing update in {@link AuctionClosingService} carries the token, so a node
+ * whose lease was taken over (GC pause, partition) cannot close an auction even if it passed the check.
+ * <p>
+ * Ownership rebalances on the next heartbeat when nodes join, leave gracefully (leases released on shutdown)
+ * or stop heartbeating (leases expire). If Redis is unreachable at heartbeat time the node falls back to
+ * standalone and owns every shard unfenced; the closing compare-and-set still prevents double closes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ShardOwnershipService {
+
+    private static final String NODES_KEY = "auction:cluster:nodes";
+    private static final String LEASE_PREFIX = "auction:shard:lease:";
+    private static final String FENCE_PREFIX = "auction:shard:fence:";
+
+    // Acquire a free lease (new fencing token) or renew our own (current token); -1 when another node holds it
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of(
+            "local owner = redis.call('get', KEYS[1]) " +
+            "if not owner then " +
+            "  redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[2]) " +
+            "  return redis.call('incr', KEYS[2]) " +
+            "elseif owner == ARGV[1] then " +
+            "  redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "  return tonumber(redis.call('get', KEYS[2])) " +
+            "end " +
+            "return -1", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    RedisTemplate<String, Object> redisTemplate;
+    ApplicationEventPublisher eventPublisher;
+    ShardFenceRepository shardFenceRepository;
+
+    @NonFinal
+    @Value("${auction.cluster.node-id:#{T(java.util.UUID).randomUUID().toString()}}")
+    protected String nodeId;
+
+    @NonFinal
+    @Value("${auction.cluster.shards:64}")
+    protected int shardCount;
+
+    @NonFinal
+    @Value("${auction.cluster.lease-ttl-ms:15000}")
+    protected long leaseTtlMillis;
+
+    // Shard -> fencing token of the lease this node holds
+    @NonFinal
+    volatile Map<Integer, Long> ownedShards = Map.of();
+
+    @NonFinal
+    volatile long ownershipValidUntil;
+
+    // null until the first heartbeat, false when falling back to standalone
+    @NonFinal
+    volatile Boolean coordinated;
+
+    @Scheduled(fixedDelayString = "${auction.cluster.heartbeat-interval-ms:5000}", scheduler = "clusterHeartbeatScheduler")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - leaseTtlMillis);
+
+            Set<Object> members = redisTemplate.opsForZSet().range(NODES_KEY, 0, -1);
+            List<String> liveNodes = new ArrayList<>();
+            if (members != null) {
+                members.forEach(member -> liveNodes.add(member.toString()));
+            }
+
+            Map<Integer, Long> owned = new HashMap<>();
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (nodeId.equals(ShardAssignment.ownerOf(shard, liveNodes))) {
+                    Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                            List.of(LEASE_PREFIX + shard, FENCE_PREFIX + shard), nodeId, leaseTtlMillis);
+                    if (token != null && token > 0 && (token.equals(ownedShards.get(shard)) || fence(shard, token))) {
+                        owned.put(shard, token);
+                    }
+                } else if (ownedShards.containsKey(shard)) {
+                    // Hand the shard over - the new owner acquires it on its next heartbeat
+                    release(shard);
+                }
+            }
+
+            updateOwnership(owned, true, now + leaseTtlMillis);
+        } catch (Exception e) {
+            log.warn("Shard coordination unavailable on node {}, owning all shards locally: {}", nodeId, e.getMessage());
+            updateOwnership(Map.of(), false, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Fast local check used to filter scans and timers
+     */
+    public boolean owns(Long itemId) {
+        Boolean mode = coordinated;
+        if (mode == null) {
+            return false;
+        }
+        if (!mode) {
+            return true;
+        }
+        return System.currentTimeMillis() < ownershipValidUntil
+               && ownedShards.containsKey(ShardAssignment.shardOf(itemId, shardCount));
+    }
+
+    /**
+     * Fenced check against Redis before a side-effecting transition
+     *
+     * @return the fencing token to carry into the write, if this node's lease on the item's shard is still live and no
+     * newer token was issued; empty if not, or if that cannot be verified. Standalone mode returns an unfenced token
+     */
+    public OptionalLong leaseToken(Long itemId) {
+        if (!owns(itemId)) {
+            return OptionalLong.empty();
+        }
+        if (!Boolean.TRUE.equals(coordinated)) {
+            return OptionalLong.of(Long.MAX_VALUE);
+        }
+
+        int shard = shardOf(itemId);
+        Long token = ownedShards.get(shard);
+        try {
+            Object owner = redisTemplate.opsForValue().get(LEASE_PREFIX + shard);
+            Object fence = redisTemplate.opsForValue().get(FENCE_PREFIX + shard);
+            return nodeId.equals(owner) && fence instanceof Number number && Objects.equals(number.longValue(), token)
+                    ? OptionalLong.of(token)
+                    : OptionalLong.empty();
+        } catch (Exception e) {
+            log.warn("Could not verify lease for shard {}, not acting on it: {}", shard, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    public int shardOf(Long itemId) {
+        return ShardAssignment.shardOf(itemId, shardCount);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return Collections.unmodifiableSet(ownedShards.keySet());
+    }
+
+    @PreDestroy
+    public void leaveCluster() {
+        try {
+            ownedShards.keySet().forEach(this::release);
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+            log.info("Node {} left the auction cluster", nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to release shard leases on shutdown: {}", e.getMessage());
+        }
+    }
+
+    // A newly acquired token is fenced in before the shard is used, so older holders' closing updates fail
+    private boolean fence(int shard, long token) {
+        try {
+            if (shardFenceRepository.advance(shard, token) == 0 && !shardFenceRepository.existsById(shard)) {
+                shardFenceRepository.save(new ShardFence(shard, token));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Could not fence shard {} with token {}, not taking it over yet: {}", shard, token, e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(int shard) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + shard), nodeId);
+    }
+
+    private void updateOwnership(Map<Integer, Long> owned, boolean coordinatedMode, long validUntil) {
+        boolean changed = !Objects.equals(coordinated, coordinatedMode) || !ownedShards.keySet().equals(owned.keySet());
+
+        ownedShards = Map.copyOf(owned);
+        ownershipValidUntil = validUntil;
+        coordinated = coordinatedMode;
+
+        if (changed) {
+            log.info("Node {} now owns {} of {} shards (coordinated: {})", nodeId, owned.size(), shardCount, coordinatedMode);
+            eventPublisher.publishEvent(ShardOwnershipChangedEvent.builder()
+                    .nodeId(nodeId)
+                    .ownedShards(ownedShards.keySet())
+                    .coordinated(coordinatedMode)
+                    .build());
+        }
+    }
+}
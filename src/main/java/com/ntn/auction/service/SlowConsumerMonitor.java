@@ -0,0 +1,124 @@
+package com.ntn.auction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks the outbound buffer of every STOMP session and sheds load for the slow ones
+ * <p>
+ * Each session's send buffer is bounded by {@code auction.websocket.outbound.send-time-limit-ms} and
+ * {@code send-buffer-size-limit}; past either limit Spring closes the session. Before that, a session whose buffer
+ * exceeds {@code lag-buffer-bytes} or whose current write has been blocked for {@code lag-send-ms} is lagging:
+ * intermediate price ticks for it are dropped on the client outbound channel, while status, end and user queue
+ * messages are still queued. A lagging client catches up on the next tick or through the item feed replay.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SlowConsumerMonitor implements ChannelInterceptor {
+
+    // Superseded by the next tick: per-item bid updates, category updates and watchlist bid queues
+    private static final Pattern PRICE_TICK_DESTINATION =
+            Pattern.compile("^(/topic/item/\\d+/bids|/topic/category/\\d+/updates|/queue/watch/bids-user.+)$");
+
+    MeterRegistry meterRegistry;
+    Map<String, ConcurrentWebSocketSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    Counter droppedCounter;
+    DistributionSummary queuedBytesSummary;
+
+    long lagBufferBytes;
+    long lagSendMillis;
+
+    public SlowConsumerMonitor(MeterRegistry meterRegistry,
+                               @Value("${auction.websocket.outbound.lag-buffer-bytes:65536}") long lagBufferBytes,
+                               @Value("${auction.websocket.outbound.lag-send-ms:1000}") long lagSendMillis) {
+        this.meterRegistry = meterRegistry;
+        this.lagBufferBytes = lagBufferBytes;
+        this.lagSendMillis = lagSendMillis;
+        this.droppedCounter = Counter.builder("auction.websocket.outbound.dropped")
+                .description("Price ticks dropped for lagging sessions")
+                .register(meterRegistry);
+        this.queuedBytesSummary = DistributionSummary.builder("auction.websocket.session.queued_bytes")
+                .description("Outbound bytes buffered per session, sampled")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auction.websocket.outbound.queued_bytes", this, SlowConsumerMonitor::totalQueuedBytes)
+                .description("Outbound bytes buffered across all sessions")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("auction.websocket.sessions.lagging", this, SlowConsumerMonitor::laggingSessions)
+                .register(meterRegistry);
+    }
+
+    public void register(ConcurrentWebSocketSessionDecorator session) {
+        sessions.put(session.getId(), session);
+    }
+
+    public void unregister(String sessionId, CloseStatus closeStatus) {
+        ConcurrentWebSocketSessionDecorator session = sessions.remove(sessionId);
+        boolean slowConsumer = CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus);
+        if (slowConsumer && session != null) {
+            log.warn("Closed slow STOMP session {} with {} bytes buffered", sessionId, session.getBufferSize());
+        }
+        Counter.builder("auction.websocket.sessions.disconnected")
+                .tag("reason", slowConsumer ? "slow_consumer" : "closed")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !PRICE_TICK_DESTINATION.matcher(destination).matches()) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        ConcurrentWebSocketSessionDecorator session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session != null && isLagging(session)) {
+            droppedCounter.increment();
+            return null;
+        }
+        return message;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.websocket.outbound.sample-interval-ms:5000}")
+    public void sampleQueuedBytes() {
+        sessions.values().forEach(session -> queuedBytesSummary.record(session.getBufferSize()));
+    }
+
+    private boolean isLagging(ConcurrentWebSocketSessionDecorator session) {
+        return session.getBufferSize() > lagBufferBytes || session.getTimeSinceSendStarted() > lagSendMillis;
+    }
+
+    private double totalQueuedBytes() {
+        return sessions.values().stream().mapToLong(ConcurrentWebSocketSessionDecorator::getBufferSize).sum();
+    }
+
+    private double laggingSessions() {
+        return sessions.values().stream().filter(this::isLagging).count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ntn.auction.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Serialize-once fan-out on top of {@link SimpMessagingTemplate}
+ * <p>
+ * {@code convertAndSend} runs the message converter for every destination. Here an event is encoded once into an
+ * {@link EncodedPayload} with the template's own converter (same JSON as before) and the byte body is shared by
+ * every topic and user queue it is sent to - only the headers are built per destination.
+ * Sends go through {@link ClusterBroadcastRelay}, so subscribers connected to other nodes receive them as well.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class StompBroadcastService {
+
+    SimpMessagingTemplate messagingTemplate;
+    ClusterBroadcastRelay clusterBroadcastRelay;
+
+    public EncodedPayload encode(Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setLeaveMutable(true);
+        Message<?> message = messagingTemplate.getMessageConverter().toMessage(payload, accessor.getMessageHeaders());
+        if (message == null || !(message.getPayload() instanceof byte[] body)) {
+            throw new IllegalArgumentException("Cannot encode payload of type " + payload.getClass().getName());
+        }
+        return new EncodedPayload(body, message.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class));
+    }
+
+    /**
+     * Encode once and send to every destination
+     */
+    public void broadcast(Object payload, String... destinations) {
+        send(encode(payload), destinations);
+    }
+
+    public void send(String destination, EncodedPayload encoded) {
+        send(encoded, destination);
+    }
+
+    /**
+     * Deliver to local subscribers and relay to the other nodes as a single cluster message
+     */
+    public void send(EncodedPayload encoded, String... destinations) {
+        clusterBroadcastRelay.send(encoded.body(), encoded.contentType(), List.of(destinations));
+    }
+
+    /**
+     * Send an item event stamped by {@link ItemEventFeed}; the sequence travels with it to every node
+     */
+    public void sendSequenced(EncodedPayload encoded, long sequence, String... destinations) {
+        clusterBroadcastRelay.send(encoded.body(), encoded.contentType(), List.of(destinations), sequence);
+    }
+
+    public void sendToUser(String userId, String destination, EncodedPayload encoded) {
+        send(userDestination(userId, destination), encoded);
+    }
+
+    public void sendToUser(String userId, String destination, Object payload) {
+        sendToUser(userId, destination, encode(payload));
+    }
+
+    public void sendToUsers(Collection<String> userIds, String destination, Object payload) {
+        send(encode(payload), userIds.stream()
+                .map(userId -> userDestination(userId, destination))
+                .toArray(String[]::new));
+    }
+
+    /**
+     * Same user destination resolution as {@link SimpMessagingTemplate#convertAndSendToUser}
+     * Resolved to sessions by each node's user destination handler, so user queues work across nodes too
+     */
+    private String userDestination(String userId, String destination) {
+        String user = StringUtils.replace(userId, "/", "%2F");
+        String userDestination = destination.startsWith("/") ? destination : "/" + destination;
+        return messagingTemplate.getUserDestinationPrefix() + user + userDestination;
+    }
+
+    /**
+     * Pre-encoded message body, immutable and safe to share across destinations and threads
+     */
+    public record EncodedPayload(byte[] body, MimeType contentType) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.UnreadCount;
+import com.ntn.auction.dto.event.UnreadNotificationsChangedEvent;
+import com.ntn.auction.repository.NotificationRepository;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user unread notification counters cached in Redis
+ * <p>
+ * A counter is seeded from the database on first read and then adjusted atomically after each commit that creates
+ * or reads notifications; every change is pushed on {@code /user/queue/notifications/unread}, so clients no longer
+ * poll the count. Counters expire after {@code auction.notifications.unread-ttl-minutes} without changes, and the
+ * users whose counters changed on this node are reconciled against the database every
+ * {@code auction.notifications.reconcile-interval-ms} to repair drift from lost updates.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UnreadNotificationCounter {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final String UNREAD_DESTINATION = "/queue/notifications/unread";
+
+    RedisService redisService;
+    NotificationRepository notificationRepository;
+    StompBroadcastService stompBroadcastService;
+
+    // Users whose counter changed on this node since the last reconciliation
+    Set<String> changedUsers = ConcurrentHashMap.newKeySet();
+
+    Duration ttl;
+
+    public UnreadNotificationCounter(RedisService redisService,
+                                     NotificationRepository notificationRepository,
+                                     StompBroadcastService stompBroadcastService,
+                                     @Value("${auction.notifications.unread-ttl-minutes:60}") long ttlMinutes) {
+        this.redisService = redisService;
+        this.notificationRepository = notificationRepository;
+        this.stompBroadcastService = stompBroadcastService;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public long get(String userId) {
+        Long cached = redisService.getUnreadNotifications(userId);
+        return cached != null ? cached : seed(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(UnreadNotificationsChangedEvent event) {
+        if (event.getDelta() == 0) {
+            return;
+        }
+        Long count = redisService.adjustUnreadNotifications(event.getUserId(), event.getDelta(), ttl);
+        // Not cached yet, or drifted below zero - the committed database count is authoritative
+        long unread = count != null && count >= 0 ? count : seed(event.getUserId());
+        changedUsers.add(event.getUserId());
+        push(event.getUserId(), unread);
+    }
+
+    /**
+     * Overwrite the counters changed since the last pass with database counts
+     * A change committed between the count and the write is repaired on the next pass, its user is marked again
+     */
+    @Scheduled(fixedDelayString = "${auction.notifications.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<String> userIds = new ArrayList<>(changedUsers);
+        changedUsers.removeAll(userIds);
+
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<String> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+            try {
+                Map<String, Long> counts = new HashMap<>();
+                notificationRepository.countUnreadByUserIds(batch)
+                        .forEach(unread -> counts.put(unread.getUserId(), unread.getCount()));
+
+                for (String userId : batch) {
+                    long actual = counts.getOrDefault(userId, 0L);
+                    Long cached = redisService.getUnreadNotifications(userId);
+                    if (cached == null || cached != actual) {
+                        log.debug("Unread counter of user {} reconciled from {} to {}", userId, cached, actual);
+                        redisService.setUnreadNotifications(userId, actual, ttl);
+                        push(userId, actual);
+                    }
+                }
+            } catch (Exception e) {
+                changedUsers.addAll(batch);
+                log.error("Failed to reconcile unread counters of {} users: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private long seed(String userId) {
+        long count = notificationRepository.countByUserIdAndReadFalse(userId);
+        redisService.setUnreadNotifications(userId, count, ttl);
+        return count;
+    }
+
+    private void push(String userId, long unread) {
+        try {
+            stompBroadcastService.sendToUser(userId, UNREAD_DESTINATION, new UnreadCount(userId, unread));
+        } catch (Exception e) {
+            log.warn("Failed to push unread count to user {}: {}", userId, e.getMessage());
+        }
+    }
+}
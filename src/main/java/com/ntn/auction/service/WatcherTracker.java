@@ -0,0 +1,206 @@
+package com.ntn.auction.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Live watcher counts per item
+ * <p>
+ * STOMP subscriptions to {@code /topic/item/{id}/*} are counted per node (one watcher per session, however many
+ * topics of the item it subscribes to). Every {@code auction.watchers.flush-interval-ms} each node adds its watching
+ * sessions to a Redis HyperLogLog per item and time window; the cluster-wide count is the PFCOUNT of the current and
+ * previous window, so sessions that left stop counting after at most two windows without any removal protocol.
+ * <p>
+ * The count is published as {@code watchers} on bid updates, decides which items {@link BidUpdateConflator}
+ * conflates, and an item turning hot is warmed up in Redis ahead of its bidding traffic, on the warm-up executor rather
+ * than the scheduler thread.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WatcherTracker {
+
+    private static final Pattern ITEM_TOPIC = Pattern.compile("^/topic/item/(\\d+)/");
+
+    RedisService redisService;
+    AuctionWarmupService auctionWarmupService;
+    ShardOwnershipService shardOwnershipService;
+    Executor warmupExecutor;
+
+    // Item -> local session -> number of its subscriptions to the item's topics
+    Map<Long, Map<String, Integer>> sessionsByItem = new ConcurrentHashMap<>();
+    // Session -> subscription id -> item, to resolve unsubscribes and disconnects
+    Map<String, Map<String, Long>> subscriptionsBySession = new ConcurrentHashMap<>();
+    Map<Long, WatcherCount> clusterCounts = new ConcurrentHashMap<>();
+    Set<Long> hotItems = ConcurrentHashMap.newKeySet();
+
+    long windowMillis;
+    long refreshMillis;
+    long hotThreshold;
+
+    public WatcherTracker(RedisService redisService,
+                          AuctionWarmupService auctionWarmupService,
+                          ShardOwnershipService shardOwnershipService,
+                          @Qualifier("auctionWarmupExecutor") Executor warmupExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${auction.watchers.window-ms:30000}") long windowMillis,
+                          @Value("${auction.watchers.flush-interval-ms:10000}") long refreshMillis,
+                          @Value("${auction.watchers.hot-threshold:50}") long hotThreshold) {
+        this.redisService = redisService;
+        this.auctionWarmupService = auctionWarmupService;
+        this.shardOwnershipService = shardOwnershipService;
+        this.warmupExecutor = warmupExecutor;
+        this.windowMillis = windowMillis;
+        this.refreshMillis = refreshMillis;
+        this.hotThreshold = hotThreshold;
+        Gauge.builder("auction.watchers.local_items", sessionsByItem, Map::size)
+                .description("Items watched by at least one session on this node")
+                .register(meterRegistry);
+        Gauge.builder("auction.watchers.hot_items", hotItems, Set::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = headersOf(event);
+        String destination = accessor.getDestination();
+        Matcher matcher = destination != null ? ITEM_TOPIC.matcher(destination) : null;
+        if (matcher == null || !matcher.find() || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long itemId = Long.valueOf(matcher.group(1));
+        subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), itemId);
+        sessionsByItem.compute(itemId, (id, sessions) -> {
+            Map<String, Integer> target = sessions != null ? sessions : new ConcurrentHashMap<>();
+            target.merge(accessor.getSessionId(), 1, Integer::sum);
+            return target;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = headersOf(event);
+        Map<String, Long> subscriptions = accessor.getSessionId() != null
+                ? subscriptionsBySession.get(accessor.getSessionId())
+                : null;
+        Long itemId = subscriptions != null && accessor.getSubscriptionId() != null
+                ? subscriptions.remove(accessor.getSubscriptionId())
+                : null;
+        if (itemId != null) {
+            leave(itemId, accessor.getSessionId(), 1);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(itemId -> leave(itemId, event.getSessionId(), Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Sessions on this node watching the item
+     */
+    public int localWatchers(Long itemId) {
+        Map<String, Integer> sessions = sessionsByItem.get(itemId);
+        return sessions != null ? sessions.size() : 0;
+    }
+
+    /**
+     * Estimated cluster-wide watchers, read from Redis at most once per flush interval per item
+     */
+    public long watchers(Long itemId) {
+        long now = System.currentTimeMillis();
+        WatcherCount cached = clusterCounts.get(itemId);
+        if (cached != null && now - cached.fetchedAt() < refreshMillis) {
+            return cached.count();
+        }
+        long window = now / windowMillis;
+        Long count = redisService.countItemWatchers(itemId, window, window - 1);
+        long watchers = count != null ? Math.max(count, localWatchers(itemId)) : localWatchers(itemId);
+        clusterCounts.put(itemId, new WatcherCount(watchers, now));
+        return watchers;
+    }
+
+    public boolean isHot(Long itemId) {
+        return watchers(itemId) >= hotThreshold;
+    }
+
+    /**
+     * Publish this node's watchers of the current window and refresh the counts of locally watched items
+     */
+    @Scheduled(fixedDelayString = "${auction.watchers.flush-interval-ms:10000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis;
+        Duration ttl = Duration.ofMillis(windowMillis * 3);
+        String nodePrefix = shardOwnershipService.getNodeId() + ":";
+
+        sessionsByItem.forEach((itemId, sessions) -> {
+            if (!sessions.isEmpty()) {
+                redisService.addItemWatchers(itemId, window,
+                        sessions.keySet().stream().map(nodePrefix::concat).toList(), ttl);
+            }
+        });
+
+        for (Long itemId : sessionsByItem.keySet()) {
+            clusterCounts.remove(itemId);
+            if (watchers(itemId) >= hotThreshold) {
+                if (hotItems.add(itemId)) {
+                    warmupExecutor.execute(() -> warmup(itemId));
+                }
+            } else {
+                hotItems.remove(itemId);
+            }
+        }
+
+        hotItems.removeIf(itemId -> !sessionsByItem.containsKey(itemId));
+        clusterCounts.entrySet().removeIf(entry -> now - entry.getValue().fetchedAt() > refreshMillis * 3);
+    }
+
+    private void warmup(Long itemId) {
+        try {
+            log.info("Item {} turned hot with {} watchers, warming up", itemId, watchers(itemId));
+            auctionWarmupService.warmup(itemId);
+        } catch (Exception e) {
+            log.warn("Failed to warm up hot item {}: {}", itemId, e.getMessage());
+        }
+    }
+
+    private void leave(Long itemId, String sessionId, int subscriptions) {
+        sessionsByItem.computeIfPresent(itemId, (id, sessions) -> {
+            sessions.computeIfPresent(sessionId, (session, count) -> count > subscriptions ? count - subscriptions : null);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private static SimpMessageHeaderAccessor headersOf(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.wrap(event.getMessage());
+    }
+
+    private record WatcherCount(long count, long fetchedAt) {
+    }
+}
@@ -11,7 +11,6 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -23,13 +22,16 @@ import java.time.LocalDateTime;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class WebSocketService {
 
-    SimpMessagingTemplate messagingTemplate;
+    BidUpdateConflator bidUpdateConflator;
+    StompBroadcastService stompBroadcastService;
+    ItemEventFeed itemEventFeed;
 
     public void sendBidUpdate(Bid bid, Item item, Long totalBids) {
         try {
             BidUpdateEvent bidUpdateEvent = BidUpdateEvent.builder()
                     .bidId(bid.getId())
                     .itemId(item.getId())
+                    .categoryId(categoryIdOf(item))
                     .amount(bid.getAmount())
                     .buyerName(bid.getBuyer().getFirstName() + " " + bid.getBuyer().getLastName())
                     .buyerId(bid.getBuyer().getId())
@@ -38,13 +40,10 @@ public class WebSocketService {
                     .totalBids(totalBids)
                     .build();
 
-            // Send to item-specific topic
-            messagingTemplate.convertAndSend("/topic/item/" + item.getId() + "/bids", bidUpdateEvent);
+            // Conflated per item, broadcast to the item topic and its category topic
+            bidUpdateConflator.offer(bidUpdateEvent);
 
-            // Send to general auction updates
-            messagingTemplate.convertAndSend("/topic/auctions/updates", bidUpdateEvent);
-
-            log.debug("Sent bid update via WebSocket for item {}", item.getId());
+            log.debug("Queued bid update via WebSocket for item {}", item.getId());
 
         } catch (Exception e) {
             log.error("Failed to send bid update via WebSocket for item {}: {}", item.getId(), e.getMessage());
@@ -64,11 +63,7 @@ public class WebSocketService {
                     .build();
 
             // Send to user-specific topic
-            messagingTemplate.convertAndSendToUser(
-                    userId,
-                    "/queue/notifications",
-                    notificationDto
-            );
+            stompBroadcastService.sendToUser(userId, "/queue/notifications", notificationDto);
 
             log.debug("Sent user notification via WebSocket to user {}", userId);
 
@@ -91,26 +86,20 @@ public class WebSocketService {
                     .totalBids(0L) // Set to 0 since we don't have access to total bids here
                     .build();
 
-            // Send to item-specific topic
-            messagingTemplate.convertAndSend("/topic/item/" + item.getId() + "/end", auctionEndEvent);
-
-            // Send to general auction updates
-            messagingTemplate.convertAndSend("/topic/auctions/ended", auctionEndEvent);
+            // Item-specific topic (sequenced for replay) and general auction updates, serialized once
+            // The same body then goes to both user queues
+            StompBroadcastService.EncodedPayload encoded = itemEventFeed.publish(item.getId(), "/topic/item/" + item.getId() + "/end",
+                    sequence -> {
+                        auctionEndEvent.setSequence(sequence);
+                        return auctionEndEvent;
+                    }, "/topic/auctions/ended");
 
             // Send to seller
-            messagingTemplate.convertAndSendToUser(
-                    item.getSeller().getId(),
-                    "/queue/auction-results",
-                    auctionEndEvent
-            );
+            stompBroadcastService.sendToUser(item.getSeller().getId(), "/queue/auction-results", encoded);
 
             // Send to winner if exists
             if (winningBid != null) {
-                messagingTemplate.convertAndSendToUser(
-                        winningBid.getBuyer().getId(),
-                        "/queue/auction-results",
-                        auctionEndEvent
-                );
+                stompBroadcastService.sendToUser(winningBid.getBuyer().getId(), "/queue/auction-results", encoded);
             }
 
             log.info("Sent auction end notification for item {}", item.getId());
@@ -122,18 +111,19 @@ public class WebSocketService {
 
     public void sendAuctionStatusUpdate(Item item, String status, String message) {
         try {
-            var statusUpdate = java.util.Map.of(
-                    "itemId", item.getId(),
-                    "status", status,
-                    "message", message,
-                    "timestamp", LocalDateTime.now()
-            );
-
-            // Send to item-specific topic
-            messagingTemplate.convertAndSend("/topic/item/" + item.getId() + "/status", statusUpdate);
-
-            // Send to general auction updates
-            messagingTemplate.convertAndSend("/topic/auctions/status", statusUpdate);
+            Long categoryId = categoryIdOf(item);
+            String[] alsoTo = categoryId != null ? new String[]{"/topic/category/" + categoryId + "/status"} : new String[0];
+
+            // Item-specific topic (sequenced for replay) and the item's category topic, serialized once
+            itemEventFeed.publish(item.getId(), "/topic/item/" + item.getId() + "/status",
+                    sequence -> java.util.Map.of(
+                            "itemId", item.getId(),
+                            "status", status,
+                            "message", message,
+                            "auctionEndDate", item.getAuctionEndDate(),
+                            "timestamp", LocalDateTime.now(),
+                            "sequence", sequence
+                    ), alsoTo);
 
             log.debug("Sent auction status update for item {}: {}", item.getId(), status);
 
@@ -151,11 +141,7 @@ public class WebSocketService {
                     "type", "PROXY_BID"
             );
 
-            messagingTemplate.convertAndSendToUser(
-                    userId,
-                    "/queue/proxy-bids",
-                    proxyBidNotification
-            );
+            stompBroadcastService.sendToUser(userId, "/queue/proxy-bids", proxyBidNotification);
 
             log.debug("Sent proxy bid notification to user {}", userId);
 
@@ -172,7 +158,7 @@ public class WebSocketService {
                     "type", "SYSTEM_ANNOUNCEMENT"
             );
 
-            messagingTemplate.convertAndSend("/topic/system/announcements", announcement);
+            stompBroadcastService.broadcast(announcement, "/topic/system/announcements");
 
             log.info("Sent system announcement: {}", message);
 
@@ -181,37 +167,35 @@ public class WebSocketService {
         }
     }
 
-    @Async("webSocketExecutor")
+    // Not @Async - offering to the conflator is O(1) and must not be dropped by a full executor queue
     public void sendBidUpdateAsync(BidNotificationPayload payload) {
         try {
             BidUpdateEvent bidUpdateEvent = BidUpdateEvent.builder()
                     .bidId(payload.getBidId())
                     .itemId(payload.getItemId())
+                    .categoryId(payload.getCategoryId())
                     .amount(payload.getAmount())
                     .buyerId(payload.getBuyerId())
                     .bidTime(payload.getTimestamp())
                     .status(Bid.BidStatus.ACCEPTED) // Temporary status during async processing
                     .build();
 
-            // Send to item-specific topic
-            messagingTemplate.convertAndSend("/topic/item/" + payload.getItemId() + "/bids", bidUpdateEvent);
-
-            // Send to general auction updates
-            messagingTemplate.convertAndSend("/topic/auctions/updates", bidUpdateEvent);
+            // Conflated per item, broadcast to the item topic and its category topic
+            bidUpdateConflator.offer(bidUpdateEvent);
 
-            log.debug("Sent immediate async bid update for bid {}", payload.getBidId());
+            log.debug("Queued immediate bid update for bid {}", payload.getBidId());
 
         } catch (Exception e) {
             log.error("Failed to send immediate bid update for bid {}: {}", payload.getBidId(), e.getMessage());
         }
     }
 
-    @Async("webSocketExecutor")
     public void sendBidCompletionNotification(Bid bid, Item item, Long totalBids) {
         try {
             BidUpdateEvent finalUpdateEvent = BidUpdateEvent.builder()
                     .bidId(bid.getId())
                     .itemId(item.getId())
+                    .categoryId(categoryIdOf(item))
                     .amount(bid.getAmount())
                     .buyerName(bid.getBuyer().getFirstName() + " " + bid.getBuyer().getLastName())
                     .buyerId(bid.getBuyer().getId())
@@ -220,13 +204,10 @@ public class WebSocketService {
                     .totalBids(totalBids)
                     .build();
 
-            // Send to item-specific topic
-            messagingTemplate.convertAndSend("/topic/item/" + item.getId() + "/bids", finalUpdateEvent);
-
-            // Send to general auction updates
-            messagingTemplate.convertAndSend("/topic/auctions/updates", finalUpdateEvent);
+            // Supersedes the immediate update of the same bid if both are still pending
+            bidUpdateConflator.offer(finalUpdateEvent);
 
-            log.debug("Sent final bid completion notification for bid {}", bid.getId());
+            log.debug("Queued final bid completion notification for bid {}", bid.getId());
 
         } catch (Exception e) {
             log.error("Failed to send bid completion notification for bid {}: {}", bid.getId(), e.getMessage());
@@ -245,15 +226,13 @@ public class WebSocketService {
                     "timestamp", LocalDateTime.now()
             );
 
+            StompBroadcastService.EncodedPayload encoded = stompBroadcastService.encode(errorNotification);
+
             // Send error to specific user
-            messagingTemplate.convertAndSendToUser(
-                    buyerId,
-                    "/queue/bid-errors",
-                    errorNotification
-            );
+            stompBroadcastService.sendToUser(buyerId, "/queue/bid-errors", encoded);
 
             // Send to item-specific topic for admin monitoring
-            messagingTemplate.convertAndSend("/topic/item/" + itemId + "/errors", errorNotification);
+            stompBroadcastService.send("/topic/item/" + itemId + "/errors", encoded);
 
             log.warn("Sent bid error notification for failed bid {}", bidId);
 
@@ -261,4 +240,8 @@ public class WebSocketService {
             log.error("Failed to send bid error notification for bid {}: {}", bidId, e.getMessage());
         }
     }
+
+    private static Long categoryIdOf(Item item) {
+        return item.getCategory() != null ? item.getCategory().getId() : null;
+    }
 }
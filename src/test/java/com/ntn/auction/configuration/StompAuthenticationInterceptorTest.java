@@ -0,0 +1,170 @@
+package com.ntn.auction.configuration;
+
+import com.ntn.auction.entity.User;
+import com.ntn.auction.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class StompAuthenticationInterceptorTest {
+
+    private static final String USER_ID = "3f1c6a2e-0d5b-4a47-9a43-2b8f4c1d7e90";
+    private static final String DESTINATION = "/queue/notifications/unread";
+
+    private final CustomJwtDecoder customJwtDecoder = Mockito.mock(CustomJwtDecoder.class);
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+    private final StompAuthenticationInterceptor interceptor = new StompAuthenticationInterceptor(
+            customJwtDecoder, new JwtAuthenticationConverter(), userRepository, List.of("10.0.0.1", "10.0.0.2"));
+
+    private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final DefaultSimpUserRegistry userRegistry = new DefaultSimpUserRegistry();
+    private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+
+    private SimpleBrokerMessageHandler broker;
+    private UserDestinationMessageHandler userDestinationHandler;
+
+    @BeforeEach
+    void initBroker() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject("alice")
+                .claim("scope", "ROLE_USER")
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        Mockito.when(customJwtDecoder.decode("token")).thenReturn(jwt);
+        Mockito.when(userRepository.findByUsername("alice"))
+                .thenReturn(Optional.of(User.builder().id(USER_ID).username("alice").build()));
+
+        clientInbound.addInterceptor(interceptor);
+        clientOutbound.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                delivered.add(message);
+            }
+        });
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic", "/queue"));
+        userDestinationHandler = new UserDestinationMessageHandler(clientInbound, brokerChannel,
+                new DefaultUserDestinationResolver(userRegistry));
+        broker.start();
+        userDestinationHandler.start();
+    }
+
+    @AfterEach
+    void stopBroker() {
+        userDestinationHandler.stop();
+        broker.stop();
+    }
+
+    @Test
+    void connect_userQueuePushAddressedByUserIdReachesSession() {
+        // GIVEN
+        Principal principal = connect("s1");
+        subscribe("s1", principal, "/user" + DESTINATION);
+
+        // WHEN
+        new SimpMessagingTemplate(brokerChannel).convertAndSendToUser(USER_ID, DESTINATION, "3");
+
+        // THEN
+        Assertions.assertThat(principal.getName()).isEqualTo(USER_ID);
+        Assertions.assertThat(delivered).hasSize(1);
+        Assertions.assertThat(SimpMessageHeaderAccessor.getSessionId(delivered.get(0).getHeaders())).isEqualTo("s1");
+        Assertions.assertThat(delivered.get(0).getPayload()).isEqualTo("3");
+    }
+
+    @Test
+    void connect_userQueuePushAddressedByUsernameIsNotDelivered() {
+        // GIVEN
+        Principal principal = connect("s1");
+        subscribe("s1", principal, "/user" + DESTINATION);
+
+        // WHEN
+        new SimpMessagingTemplate(brokerChannel).convertAndSendToUser("alice", DESTINATION, "3");
+
+        // THEN
+        Assertions.assertThat(delivered).isEmpty();
+    }
+
+    @Test
+    void handshake_forwardedForIgnoredFromUntrustedAddress() {
+        // GIVEN
+        Map<String, Object> attributes = new HashMap<>();
+
+        // WHEN
+        interceptor.beforeHandshake(request("203.0.113.7", "1.2.3.4"), null, null, attributes);
+
+        // THEN
+        Assertions.assertThat(attributes.get(StompAuthenticationInterceptor.CLIENT_IP_ATTRIBUTE)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void handshake_forwardedForFromTrustedProxyUsesLastUntrustedHop() {
+        // GIVEN
+        Map<String, Object> attributes = new HashMap<>();
+
+        // WHEN
+        interceptor.beforeHandshake(request("10.0.0.1", "1.2.3.4, 198.51.100.9, 10.0.0.2"), null, null, attributes);
+
+        // THEN
+        Assertions.assertThat(attributes.get(StompAuthenticationInterceptor.CLIENT_IP_ATTRIBUTE)).isEqualTo("198.51.100.9");
+    }
+
+    private Principal connect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setNativeHeader("Authorization", "Bearer token");
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        clientInbound.send(message);
+
+        Principal principal = accessor.getUser();
+        userRegistry.onApplicationEvent(new SessionConnectedEvent(this, message, principal));
+        return principal;
+    }
+
+    private void subscribe(String sessionId, Principal principal, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination(destination);
+        accessor.setUser(principal);
+        clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private static ServletServerHttpRequest request(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        request.setRemoteHost(remoteAddress);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return new ServletServerHttpRequest(request);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ntn.auction.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.ntn.auction.entity.Category;
+import com.ntn.auction.entity.Item;
+import com.ntn.auction.entity.Role;
+import com.ntn.auction.entity.User;
+import com.ntn.auction.repository.CategoryRepository;
+import com.ntn.auction.repository.ItemRepository;
+import com.ntn.auction.repository.RoleRepository;
+import com.ntn.auction.repository.UserRepository;
+import com.ntn.auction.support.SqlStatementCounter;
+
+/**
+ * Locks in the number of SQL statements per item endpoint, independent of the number of items returned
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "/test.properties", properties = {
+        // User is a keyword in H2 2.x; the generated schema needs it as a table name
+        "spring.datasource.url=jdbc:h2:mem:itemquerycount;MODE=MYSQL;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ntn.auction.support.SqlStatementCounter"
+})
+class ItemControllerQueryCountTest {
+
+    private static final int ITEMS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private User seller;
+    private Long itemId;
+
+    @BeforeEach
+    void initData() {
+        Role role = roleRepository.save(Role.builder().name("USER").permissions(new HashSet<>()).build());
+        seller = userRepository.save(User.builder()
+                .username("seller")
+                .password("password")
+                .firstName("Seller")
+                .lastName("One")
+                .roles(new HashSet<>(Set.of(role)))
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("Watches")
+                .minStartingPrice(BigDecimal.ONE)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .startingPrice(BigDecimal.TEN)
+                    .currentBidPrice(BigDecimal.valueOf(10 + i))
+                    .minIncreasePrice(BigDecimal.ONE)
+                    .auctionStartDate(now.minusHours(1))
+                    .auctionEndDate(now.plusHours(1 + i))
+                    .status(Item.ItemStatus.ACTIVE)
+                    .category(category)
+                    .seller(seller)
+                    .build());
+            itemId = item.getId();
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+        categoryRepository.deleteAllInBatch();
+        roleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getCatalog_singleStatementPerPage() throws Exception {
+        // GIVEN
+        SqlStatementCounter.reset();
+
+        // WHEN
+        mockMvc.perform(MockMvcRequestBuilders.get("/items").param("limit", "20"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("result.items.length()").value(20));
+
+        // THEN
+        Assertions.assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void getItemsBySeller_singleStatementPerPage() throws Exception {
+        // GIVEN
+        SqlStatementCounter.reset();
+
+        // WHEN
+        mockMvc.perform(MockMvcRequestBuilders.get("/items/seller/" + seller.getId()).param("limit", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("result.items.length()").value(ITEMS));
+
+        // THEN
+        Assertions.assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void getItem_detailWithoutLazyLoadCascade() throws Exception {
+        // GIVEN
+        SqlStatementCounter.reset();
+
+        // WHEN
+        mockMvc.perform(MockMvcRequestBuilders.get("/items/" + itemId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("result.seller.username").value("seller"));
+
+        // THEN
+        // Item with category, seller and images, then the seller's roles and their permissions
+        Assertions.assertThat(SqlStatementCounter.count()).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ntn.auction.engine;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ntn.auction.service.BidIncrementService;
+
+class AuctionEngineTest {
+
+    private AuctionEngine engine;
+
+    @BeforeEach
+    void initData() {
+        engine = new AuctionEngine(new BidIncrementService()::calculateMinIncrement);
+        engine.open(1L, new BigDecimal("10"), 1_000L);
+    }
+
+    @Test
+    void placeBid_belowMinimum_rejected() {
+        // WHEN
+        var outcome = engine.apply(new AuctionEvent.BidPlaced(1L, 1L, "alice", new BigDecimal("10.50")));
+
+        // THEN
+        Assertions.assertThat(outcome).isEqualTo(BidOutcome.REJECTED_BELOW_MINIMUM);
+        Assertions.assertThat(engine.state(1L).hasBids()).isFalse();
+    }
+
+    @Test
+    void placeBid_afterEndTime_rejected() {
+        var outcome = engine.apply(new AuctionEvent.BidPlaced(1L, 1_001L, "alice", new BigDecimal("20")));
+
+        Assertions.assertThat(outcome).isEqualTo(BidOutcome.REJECTED_CLOSED);
+    }
+
+    @Test
+    void proxy_outbidsManualBid_byOneIncrement() {
+        // GIVEN
+        engine.apply(new AuctionEvent.ProxyPlaced(1L, 1L, "bob", new BigDecimal("40")));
+
+        // WHEN
+        var outcome = engine.apply(new AuctionEvent.BidPlaced(1L, 2L, "alice", new BigDecimal("20")));
+
+        // THEN
+        AuctionState state = engine.state(1L);
+        Assertions.assertThat(outcome).isEqualTo(BidOutcome.ACCEPTED);
+        Assertions.assertThat(state.getLeaderId()).isEqualTo("bob");
+        Assertions.assertThat(state.getCurrentPrice()).isEqualByComparingTo("21");
+    }
+
+    @Test
+    void competingProxies_highestMaxWinsAtRunnerUpPlusIncrement() {
+        // GIVEN
+        engine.apply(new AuctionEvent.ProxyPlaced(1L, 1L, "bob", new BigDecimal("40")));
+
+        // WHEN
+        engine.apply(new AuctionEvent.ProxyPlaced(1L, 2L, "carol", new BigDecimal("100")));
+
+        // THEN
+        AuctionState state = engine.state(1L);
+        Assertions.assertThat(state.getLeaderId()).isEqualTo("carol");
+        Assertions.assertThat(state.getCurrentPrice()).isEqualByComparingTo("41");
+        Assertions.assertThat(state.activeProxyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replay_isDeterministic() {
+        // GIVEN
+        List<AuctionEvent> trace = List.of(
+                new AuctionEvent.ItemOpened(2L, 0L, new BigDecimal("100"), Long.MAX_VALUE),
+                new AuctionEvent.BidPlaced(2L, 1L, "alice", new BigDecimal("105")),
+                new AuctionEvent.ProxyPlaced(2L, 2L, "bob", new BigDecimal("300")),
+                new AuctionEvent.BidPlaced(2L, 3L, "alice", new BigDecimal("250")),
+                new AuctionEvent.BidPlaced(2L, 4L, "carol", new BigDecimal("251")));
+
+        // WHEN
+        AuctionEngine other = new AuctionEngine(new BidIncrementService()::calculateMinIncrement);
+        ReplayReport first = engine.replay(trace);
+        ReplayReport second = other.replay(trace);
+
+        // THEN
+        Assertions.assertThat(first.accepted()).isEqualTo(2);
+        Assertions.assertThat(first.rejected()).isEqualTo(1);
+        Assertions.assertThat(engine.state(2L).getLeaderId()).isEqualTo("bob");
+        Assertions.assertThat(engine.state(2L).getCurrentPrice()).isEqualByComparingTo("260");
+        Assertions.assertThat(other.state(2L).getCurrentPrice()).isEqualByComparingTo(engine.state(2L).getCurrentPrice());
+        Assertions.assertThat(second.proxyExecutions()).isEqualTo(first.proxyExecutions());
+    }
+
+    @Test
+    void antiSnipe_bidInsideThreshold_extendsUpToMax() {
+        // GIVEN - 100 ms threshold, 500 ms extension, at most 2 extensions
+        AuctionEngine sniped = new AuctionEngine(new BidIncrementService()::calculateMinIncrement,
+                new AntiSnipePolicy(100, 500, 2));
+        sniped.open(3L, new BigDecimal("10"), 1_000L);
+
+        // WHEN
+        sniped.apply(new AuctionEvent.BidPlaced(3L, 500L, "alice", new BigDecimal("11")));
+        sniped.apply(new AuctionEvent.BidPlaced(3L, 950L, "bob", new BigDecimal("12")));
+        sniped.apply(new AuctionEvent.BidPlaced(3L, 1_450L, "alice", new BigDecimal("13")));
+        sniped.apply(new AuctionEvent.BidPlaced(3L, 1_950L, "bob", new BigDecimal("14")));
+
+        // THEN
+        AuctionState state = sniped.state(3L);
+        Assertions.assertThat(state.getExtensions()).isEqualTo(2);
+        Assertions.assertThat(state.getEndTime()).isEqualTo(2_000L);
+        Assertions.assertThat(state.getLeaderId()).isEqualTo("bob");
+    }
+}
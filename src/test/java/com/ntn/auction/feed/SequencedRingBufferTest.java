@@ -0,0 +1,90 @@
+package com.ntn.auction.feed;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SequencedRingBufferTest {
+
+    @Test
+    void since_returnsOnlyTheGap() {
+        // GIVEN
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(8);
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            buffer.append(sequence, "event-" + sequence);
+        }
+
+        // WHEN
+        SequencedRingBuffer.Replay<String> replay = buffer.since(3);
+
+        // THEN
+        Assertions.assertThat(replay.entries()).containsExactly("event-4", "event-5");
+        Assertions.assertThat(replay.complete()).isTrue();
+        Assertions.assertThat(replay.lastSequence()).isEqualTo(5);
+    }
+
+    @Test
+    void since_evictedGap_isIncomplete() {
+        // GIVEN
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(3);
+        for (long sequence = 1; sequence <= 6; sequence++) {
+            buffer.append(sequence, "event-" + sequence);
+        }
+
+        // WHEN
+        SequencedRingBuffer.Replay<String> stale = buffer.since(1);
+        SequencedRingBuffer.Replay<String> recent = buffer.since(3);
+
+        // THEN
+        Assertions.assertThat(stale.complete()).isFalse();
+        Assertions.assertThat(stale.entries()).containsExactly("event-4", "event-5", "event-6");
+        Assertions.assertThat(recent.complete()).isTrue();
+        Assertions.assertThat(recent.entries()).containsExactly("event-4", "event-5", "event-6");
+    }
+
+    @Test
+    void since_gapBeforeFirstEntry_isIncomplete() {
+        // GIVEN
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(8);
+        buffer.append(42, "event-42");
+        buffer.append(43, "event-43");
+
+        // WHEN
+        SequencedRingBuffer.Replay<String> stale = buffer.since(30);
+        SequencedRingBuffer.Replay<String> recent = buffer.since(41);
+
+        // THEN
+        Assertions.assertThat(stale.complete()).isFalse();
+        Assertions.assertThat(stale.entries()).containsExactly("event-42", "event-43");
+        Assertions.assertThat(recent.complete()).isTrue();
+        Assertions.assertThat(recent.entries()).containsExactly("event-42", "event-43");
+    }
+
+    @Test
+    void since_beforeMissingSequence_isIncomplete() {
+        // GIVEN
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(8);
+        buffer.append(1, "event-1");
+        buffer.append(3, "event-3");
+        buffer.markMissing(2);
+
+        // WHEN
+        SequencedRingBuffer.Replay<String> stale = buffer.since(1);
+        SequencedRingBuffer.Replay<String> recent = buffer.since(2);
+
+        // THEN
+        Assertions.assertThat(stale.complete()).isFalse();
+        Assertions.assertThat(recent.complete()).isTrue();
+        Assertions.assertThat(recent.entries()).containsExactly("event-3");
+    }
+
+    @Test
+    void append_nonIncreasingSequence_isRejected() {
+        // GIVEN
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(4);
+        buffer.append(10, "event-10");
+
+        // WHEN / THEN
+        Assertions.assertThatThrownBy(() -> buffer.append(10, "duplicate"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ntn.auction.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void initData() {
+        // 8 buckets of 10 ms - one revolution is 80 ms
+        wheel = new HashedTimingWheel("test-wheel", Duration.ofMillis(10), 8, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void schedule_firesAtDeadline() throws InterruptedException {
+        // GIVEN
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        Instant deadline = Instant.now().plusMillis(50);
+
+        // WHEN
+        var timeout = wheel.schedule(deadline, () -> {
+            firedAt.set(System.currentTimeMillis());
+            fired.countDown();
+        });
+
+        // THEN
+        Assertions.assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(firedAt.get()).isGreaterThanOrEqualTo(deadline.toEpochMilli() - 10);
+        Assertions.assertThat(timeout.isExpired()).isTrue();
+        Assertions.assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void schedule_beyondOneRevolution_doesNotFireEarly() throws InterruptedException {
+        // GIVEN
+        CountDownLatch fired = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(250);
+
+        // WHEN
+        wheel.schedule(deadline, fired::countDown);
+
+        // THEN
+        Assertions.assertThat(fired.await(150, TimeUnit.MILLISECONDS)).isFalse();
+        Assertions.assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void schedule_pastDeadline_firesOnNextTick() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(Instant.now().minusSeconds(60), fired::countDown);
+
+        Assertions.assertThat(fired.await(200, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void cancel_preventsExecution() throws InterruptedException {
+        // GIVEN
+        CountDownLatch fired = new CountDownLatch(1);
+        var timeout = wheel.schedule(Instant.now().plusMillis(40), fired::countDown);
+
+        // WHEN
+        boolean cancelled = timeout.cancel();
+
+        // THEN
+        Assertions.assertThat(cancelled).isTrue();
+        Assertions.assertThat(fired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        Assertions.assertThat(timeout.isCancelled()).isTrue();
+        Assertions.assertThat(wheel.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ntn.auction.scheduling;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ShardAssignmentTest {
+
+    private static final int SHARDS = 64;
+
+    @Test
+    void ownerOf_spreadsShardsAcrossNodes() {
+        // GIVEN
+        List<String> nodes = List.of("node-a", "node-b", "node-c");
+
+        // WHEN
+        Map<String, Integer> counts = new HashMap<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            counts.merge(ShardAssignment.ownerOf(shard, nodes), 1, Integer::sum);
+        }
+
+        // THEN
+        Assertions.assertThat(counts).containsOnlyKeys(nodes);
+        Assertions.assertThat(counts.values()).allSatisfy(count -> Assertions.assertThat(count).isBetween(10, 35));
+    }
+
+    @Test
+    void ownerOf_nodeJoining_onlyMovesShardsToNewNode() {
+        // GIVEN
+        List<String> before = List.of("node-a", "node-b", "node-c");
+        List<String> after = List.of("node-a", "node-b", "node-c", "node-d");
+
+        // WHEN / THEN
+        for (int shard = 0; shard < SHARDS; shard++) {
+            String oldOwner = ShardAssignment.ownerOf(shard, before);
+            String newOwner = ShardAssignment.ownerOf(shard, after);
+            Assertions.assertThat(newOwner).isIn(oldOwner, "node-d");
+        }
+    }
+
+    @Test
+    void ownerOf_noLiveNodes_returnsNull() {
+        Assertions.assertThat(ShardAssignment.ownerOf(3, List.of())).isNull();
+    }
+
+    @Test
+    void shardOf_isStableAndInRange() {
+        for (long itemId = 1; itemId <= 1_000; itemId++) {
+            int shard = ShardAssignment.shardOf(itemId, SHARDS);
+            Assertions.assertThat(shard).isBetween(0, SHARDS - 1).isEqualTo(ShardAssignment.shardOf(itemId, SHARDS));
+        }
+    }
+}
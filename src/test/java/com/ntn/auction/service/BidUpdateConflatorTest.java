@@ -0,0 +1,56 @@
+package com.ntn.auction.service;
+
+import com.ntn.auction.dto.event.BidUpdateEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+
+class BidUpdateConflatorTest {
+
+    private final ItemEventFeed itemEventFeed = Mockito.mock(ItemEventFeed.class);
+    private final WatcherTracker watcherTracker = Mockito.mock(WatcherTracker.class);
+    private final BidUpdateConflator conflator = new BidUpdateConflator(itemEventFeed, watcherTracker, new SimpleMeterRegistry(), 100);
+
+    @Test
+    void flush_lateLowerUpdateAfterFlush_isDropped() {
+        // GIVEN
+        conflator.offer(update(200, 2L));
+        conflator.flush();
+
+        // WHEN
+        conflator.offer(update(150, 1L));
+        conflator.flush();
+
+        // THEN
+        Mockito.verify(itemEventFeed, Mockito.times(1)).publish(ArgumentMatchers.eq(7L), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(String[].class));
+    }
+
+    @Test
+    void flush_higherUpdateAfterFlush_isSent() {
+        // GIVEN
+        conflator.offer(update(200, null));
+        conflator.flush();
+
+        // WHEN
+        conflator.offer(update(200, 2L));
+        conflator.flush();
+        conflator.offer(update(250, 3L));
+        conflator.flush();
+
+        // THEN
+        Mockito.verify(itemEventFeed, Mockito.times(3)).publish(ArgumentMatchers.eq(7L), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(String[].class));
+    }
+
+    private static BidUpdateEvent update(long amount, Long totalBids) {
+        return BidUpdateEvent.builder()
+                .itemId(7L)
+                .amount(BigDecimal.valueOf(amount))
+                .totalBids(totalBids)
+                .build();
+    }
+}
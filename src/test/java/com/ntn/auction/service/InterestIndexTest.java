@@ -0,0 +1,56 @@
+package com.ntn.auction.service;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class InterestIndexTest {
+
+    @Test
+    void watch_routesItemToWatchingSessionsOnly() {
+        // GIVEN
+        InterestIndex index = new InterestIndex(10);
+
+        // WHEN
+        index.watch("session-1", List.of(1L, 2L));
+        index.watch("session-2", List.of(2L));
+
+        // THEN
+        Assertions.assertThat(index.sessionsWatching(1L)).containsExactly("session-1");
+        Assertions.assertThat(index.sessionsWatching(2L)).containsExactlyInAnyOrder("session-1", "session-2");
+        Assertions.assertThat(index.sessionsWatching(3L)).isEmpty();
+    }
+
+    @Test
+    void watch_stopsAtPerSessionLimit() {
+        // GIVEN
+        InterestIndex index = new InterestIndex(2);
+
+        // WHEN
+        var watched = index.watch("session-1", List.of(1L, 2L, 3L));
+
+        // THEN
+        Assertions.assertThat(watched).containsExactlyInAnyOrder(1L, 2L);
+        Assertions.assertThat(index.sessionsWatching(3L)).isEmpty();
+    }
+
+    @Test
+    void unwatchAndDisconnect_removeSession() {
+        // GIVEN
+        InterestIndex index = new InterestIndex(10);
+        index.watch("session-1", List.of(1L, 2L));
+
+        // WHEN
+        index.unwatch("session-1", List.of(1L));
+        index.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.withPayload(new byte[0]).build(), "session-1", CloseStatus.NORMAL));
+
+        // THEN
+        Assertions.assertThat(index.sessionsWatching(1L)).isEmpty();
+        Assertions.assertThat(index.sessionsWatching(2L)).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ntn.auction.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class WatcherTrackerTest {
+
+    private final WatcherTracker tracker = new WatcherTracker(null, null, null, Runnable::run, new SimpleMeterRegistry(), 30000, 10000, 50);
+
+    @Test
+    void subscribe_countsOneWatcherPerSession() {
+        // GIVEN
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s1", "sub-1", "/topic/item/7/bids")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s1", "sub-2", "/topic/item/7/status")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s2", "sub-1", "/topic/item/7/bids")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s3", "sub-1", "/topic/system/announcements")));
+
+        // WHEN
+        int watchers = tracker.localWatchers(7L);
+
+        // THEN
+        Assertions.assertThat(watchers).isEqualTo(2);
+    }
+
+    @Test
+    void unsubscribeAndDisconnect_releaseWatchers() {
+        // GIVEN
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s1", "sub-1", "/topic/item/7/bids")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s1", "sub-2", "/topic/item/7/status")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s2", "sub-1", "/topic/item/7/bids")));
+
+        // WHEN
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(SimpMessageType.UNSUBSCRIBE, "s1", "sub-1", null)));
+        int afterUnsubscribe = tracker.localWatchers(7L);
+        tracker.onDisconnect(new SessionDisconnectEvent(this, frame(SimpMessageType.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+        tracker.onDisconnect(new SessionDisconnectEvent(this, frame(SimpMessageType.DISCONNECT, "s2", null, null), "s2", CloseStatus.NORMAL));
+
+        // THEN
+        Assertions.assertThat(afterUnsubscribe).isEqualTo(2);
+        Assertions.assertThat(tracker.localWatchers(7L)).isZero();
+    }
+
+    private static Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,28 @@
+package com.ntn.auction.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread
+ * <p>
+ * Registered through {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}. Counting is
+ * per thread so statements of scheduled jobs running alongside a MockMvc request are not included.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+}